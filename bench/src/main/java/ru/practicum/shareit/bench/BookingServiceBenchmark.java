@@ -0,0 +1,46 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingFullDto;
+
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.bench.ShareItState.OWNER_ID;
+import static ru.practicum.shareit.bench.ShareItState.PAGE_SIZE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    public String state;
+
+    private BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState shareItState) {
+        bookingService = shareItState.getBean(BookingService.class);
+    }
+
+    @Benchmark
+    public Slice<BookingFullDto> getByOwnerId() {
+        return bookingService.getByOwnerId(OWNER_ID, state, null, null, 0, PAGE_SIZE);
+    }
+}
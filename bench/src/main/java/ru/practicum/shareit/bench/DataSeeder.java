@@ -0,0 +1,68 @@
+package ru.practicum.shareit.bench;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class DataSeeder {
+
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "WAITING", "REJECTED"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDateTime now;
+
+    DataSeeder(JdbcTemplate jdbcTemplate, LocalDateTime now) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.now = now;
+    }
+
+    void seed(int users, int itemsPerUser, int bookingsPerItem, int commentsPerItem, int requestsPerUser) {
+        List<Object[]> userRows = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            userRows.add(new Object[]{userId, "user" + userId, "user" + userId + "@shareit.ru"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", userRows);
+
+        long requests = (long) users * requestsPerUser;
+        List<Object[]> requestRows = new ArrayList<>();
+        for (long requestId = 1; requestId <= requests; requestId++) {
+            requestRows.add(new Object[]{requestId, "Need a drill " + requestId,
+                    (requestId - 1) / requestsPerUser + 1, now.minusMinutes(requestId)});
+        }
+        jdbcTemplate.batchUpdate("insert into requests (id, description, requester_id, created) " +
+                "values (?, ?, ?, ?)", requestRows);
+
+        List<Object[]> itemRows = new ArrayList<>();
+        List<Object[]> bookingRows = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+        long itemId = 0;
+        long bookingId = 0;
+        long commentId = 0;
+        for (long ownerId = 1; ownerId <= users; ownerId++) {
+            long bookerId = ownerId % users + 1;
+            for (int i = 0; i < itemsPerUser; i++) {
+                itemId++;
+                Long requestId = requests > 0 && itemId % 2 == 0 ? itemId % requests + 1 : null;
+                itemRows.add(new Object[]{itemId, "Drill " + itemId, "Cordless drill number " + itemId,
+                        ownerId, requestId, itemId % 10 != 0});
+                for (int j = 0; j < bookingsPerItem; j++) {
+                    LocalDateTime start = now.plusDays(2L * (j - bookingsPerItem / 2)).plusHours(1);
+                    bookingRows.add(new Object[]{++bookingId, start, start.plusDays(1), itemId, bookerId,
+                            STATUSES[j % STATUSES.length]});
+                }
+                for (int j = 0; j < commentsPerItem; j++) {
+                    commentRows.add(new Object[]{++commentId, "Works fine " + commentId, itemId, bookerId,
+                            now.minusHours(j)});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into items (id, name, description, owner_id, request_id, available) " +
+                "values (?, ?, ?, ?, ?, ?)", itemRows);
+        jdbcTemplate.batchUpdate("insert into bookings (id, start_time, end_time, item_id, booker_id, status) " +
+                "values (?, ?, ?, ?, ?, ?)", bookingRows);
+        jdbcTemplate.batchUpdate("insert into comments (id, text, item_id, author_id, created) " +
+                "values (?, ?, ?, ?, ?)", commentRows);
+    }
+}
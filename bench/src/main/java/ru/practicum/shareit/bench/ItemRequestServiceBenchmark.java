@@ -0,0 +1,42 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.bench.ShareItState.OWNER_ID;
+import static ru.practicum.shareit.bench.ShareItState.PAGE_SIZE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemRequestServiceBenchmark {
+
+    private ItemRequestService itemRequestService;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState state) {
+        itemRequestService = state.getBean(ItemRequestService.class);
+    }
+
+    @Benchmark
+    public Slice<ItemRequestDto> getAll() {
+        return itemRequestService.getAll(OWNER_ID, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemServiceImpl;
+import ru.practicum.shareit.item.dto.ItemFullDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.bench.ShareItState.OWNER_ID;
+import static ru.practicum.shareit.bench.ShareItState.PAGE_SIZE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    private ItemServiceImpl itemService;
+    private List<Item> ownerItems;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState state) {
+        itemService = state.getBean(ItemServiceImpl.class);
+        ownerItems = state.getBean(ItemRepository.class)
+                .findAllByOwnerId(OWNER_ID, PageRequest.of(0, PAGE_SIZE, Sort.by("id")))
+                .getContent();
+    }
+
+    @Benchmark
+    public List<ItemFullDto> addData() {
+        return itemService.addData(OWNER_ID, ownerItems);
+    }
+
+    @Benchmark
+    public List<ItemFullDto> search() {
+        return itemService.search("drill", 0, PAGE_SIZE).getContent();
+    }
+}
@@ -0,0 +1,165 @@
+package ru.practicum.shareit.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.Status;
+import ru.practicum.shareit.booking.dto.BookingFullDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.comment.Comment;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.comment.dto.CommentMapper;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.dto.ItemFullDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.dto.UserFullDto;
+import ru.practicum.shareit.user.dto.UserMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int COMMENTS_PER_ITEM = 2;
+
+    @Param({"10", "20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<User> users;
+    private List<Item> items;
+    private List<Booking> bookings;
+    private List<Comment> comments;
+    private List<ItemRequest> requests;
+    private byte[] bookingsJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        users = new ArrayList<>();
+        items = new ArrayList<>();
+        bookings = new ArrayList<>();
+        comments = new ArrayList<>();
+        requests = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            User owner = new User(id, "user" + id, "user" + id + "@shareit.ru");
+            User booker = new User(id + pageSize, "booker" + id, "booker" + id + "@shareit.ru");
+            ItemRequest request = new ItemRequest(id, "Need a drill " + id, booker, now.minusDays(id));
+            Item item = new Item(id, "Drill " + id, "Cordless drill number " + id, true, owner, request);
+
+            Booking booking = new Booking();
+            booking.setId(id);
+            booking.setStart(now.plusDays(id));
+            booking.setEnd(now.plusDays(id + 1));
+            booking.setItem(item);
+            booking.setBooker(booker);
+            booking.setStatus(Status.APPROVED);
+
+            users.add(owner);
+            items.add(item);
+            bookings.add(booking);
+            requests.add(request);
+            for (long i = 0; i < COMMENTS_PER_ITEM; i++) {
+                comments.add(new Comment(id * COMMENTS_PER_ITEM + i, "Works fine", item, booker, now.minusHours(i)));
+            }
+        }
+        bookingsJson = objectMapper.writeValueAsBytes(mapBookings());
+    }
+
+    @Benchmark
+    public List<BookingFullDto> mapBookings() {
+        return bookings.stream()
+                .map(BookingMapper::mapToFullDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ItemFullDto> mapItems() {
+        List<ItemFullDto> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ItemFullDto itemFullDto = ItemMapper.mapToFullDto(items.get(i));
+            itemFullDto.setComments(comments.subList(i * COMMENTS_PER_ITEM, (i + 1) * COMMENTS_PER_ITEM)
+                    .stream()
+                    .map(CommentMapper::mapToDto)
+                    .collect(Collectors.toList()));
+            result.add(itemFullDto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<CommentDto> mapComments() {
+        return comments.stream()
+                .map(CommentMapper::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> mapRequests() {
+        List<ItemRequestDto> result = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ItemRequestDto itemRequestDto = ItemRequestMapper.mapToDto(requests.get(i));
+            itemRequestDto.setItems(List.of(ItemMapper.mapToShortDto(items.get(i))));
+            result.add(itemRequestDto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<UserFullDto> mapUsers() {
+        return users.stream()
+                .map(UserMapper::mapToFullDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() throws IOException {
+        return objectMapper.writeValueAsBytes(mapBookings());
+    }
+
+    @Benchmark
+    public byte[] serializeItems() throws IOException {
+        return objectMapper.writeValueAsBytes(mapItems());
+    }
+
+    @Benchmark
+    public byte[] serializeRequests() throws IOException {
+        return objectMapper.writeValueAsBytes(mapRequests());
+    }
+
+    @Benchmark
+    public byte[] relayBookings() throws IOException {
+        return objectMapper.writeValueAsBytes(objectMapper.readValue(bookingsJson, Object.class));
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.ItemSearchIndex;
+
+import java.time.LocalDateTime;
+
+@State(Scope.Benchmark)
+public class ShareItState {
+
+    static final long OWNER_ID = 1L;
+    static final int PAGE_SIZE = 20;
+
+    @Param("100")
+    public int users;
+    @Param("10")
+    public int itemsPerUser;
+    @Param("10")
+    public int bookingsPerItem;
+    @Param("2")
+    public int commentsPerItem;
+    @Param("2")
+    public int requestsPerUser;
+    @Param("false")
+    public boolean searchIndex;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run("--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:shareit-bench;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=bench",
+                        "--spring.datasource.password=bench",
+                        "--shareit.search.index.enabled=" + searchIndex,
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        new DataSeeder(context.getBean(JdbcTemplate.class), LocalDateTime.now())
+                .seed(users, itemsPerUser, bookingsPerItem, commentsPerItem, requestsPerUser);
+        context.getBean(ItemSearchIndex.class).warmUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
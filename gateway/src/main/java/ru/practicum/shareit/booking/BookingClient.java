@@ -10,6 +10,7 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -39,21 +40,37 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getByBookerId(Long bookerId, String state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", bookerId, parameters);
+    public ResponseEntity<Object> getByBookerId(Long bookerId, String state, String status, Long itemId,
+                                                Integer from, Integer size, String cursor) {
+        return getBookings("", bookerId, state, status, itemId, from, size, cursor);
     }
 
-    public ResponseEntity<Object> getByOwnerId(Long ownerId, String state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", ownerId, parameters);
+    public ResponseEntity<Object> getByOwnerId(Long ownerId, String state, String status, Long itemId,
+                                               Integer from, Integer size, String cursor) {
+        return getBookings("/owner", ownerId, state, status, itemId, from, size, cursor);
+    }
+
+    public ResponseEntity<Object> getCountsByOwnerId(Long ownerId) {
+        return get("/owner/counts", ownerId);
+    }
+
+    private ResponseEntity<Object> getBookings(String path, Long userId, String state, String status, Long itemId,
+                                               Integer from, Integer size, String cursor) {
+        StringBuilder query = new StringBuilder(path).append("?state={state}&size={size}");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("size", size);
+        addParameter(query, parameters, "from", cursor == null ? from : null);
+        addParameter(query, parameters, "status", status);
+        addParameter(query, parameters, "itemId", itemId);
+        addParameter(query, parameters, "cursor", cursor);
+        return get(query.toString(), userId, parameters);
+    }
+
+    private static void addParameter(StringBuilder query, Map<String, Object> parameters, String name, Object value) {
+        if (value != null) {
+            query.append('&').append(name).append("={").append(name).append('}');
+            parameters.put(name, value);
+        }
     }
 }
@@ -39,17 +39,28 @@ public class BookingController {
     public ResponseEntity<Object> getByBookerId(
             @RequestHeader("X-Sharer-User-Id") Long bookerId,
             @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long itemId,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
-        return bookingClient.getByBookerId(bookerId, state, from, size);
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        return bookingClient.getByBookerId(bookerId, state, status, itemId, from, size, cursor);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getByOwnerId(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
             @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long itemId,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
-        return bookingClient.getByOwnerId(ownerId, state, from, size);
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        return bookingClient.getByOwnerId(ownerId, state, status, itemId, from, size, cursor);
+    }
+
+    @GetMapping("/owner/counts")
+    public ResponseEntity<Object> getCountsByOwnerId(@RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingClient.getCountsByOwnerId(ownerId);
     }
 }
@@ -11,6 +11,8 @@ import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentInputDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -48,18 +50,36 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> search(Long userId, String text, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "text", text,
-                "from", from != null ? from : 0,
-                "size", size != null ? size : Integer.MAX_VALUE
-        );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> search(Long userId, String text, Integer from, Integer size,
+                                         LocalDateTime start, LocalDateTime end) {
+        StringBuilder query = new StringBuilder("/search?text={text}&from={from}&size={size}");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("from", from != null ? from : 0);
+        parameters.put("size", size != null ? size : Integer.MAX_VALUE);
+        addParameter(query, parameters, "start", start);
+        addParameter(query, parameters, "end", end);
+        return get(query.toString(), userId, parameters);
+    }
+
+    private static void addParameter(StringBuilder query, Map<String, Object> parameters, String name, Object value) {
+        if (value != null) {
+            query.append('&').append(name).append("={").append(name).append('}');
+            parameters.put(name, value);
+        }
     }
 
     public ResponseEntity<Object> addComment(Long userId, Long itemId, CommentInputDto commentInputDto) {
         return post("/" + itemId + "/comment", userId, commentInputDto);
     }
 
+    public ResponseEntity<Object> getAvailability(Long userId, Long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters);
+    }
+
 
 }
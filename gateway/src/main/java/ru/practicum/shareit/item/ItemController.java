@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -8,6 +9,7 @@ import ru.practicum.shareit.item.dto.CommentInputDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/items")
@@ -47,8 +49,12 @@ public class ItemController {
     public ResponseEntity<Object> search(@RequestHeader("X-Sharer-User-Id") Long userId,
                                          @RequestParam String text,
                                          @RequestParam(defaultValue = "0") Integer from,
-                                         @RequestParam(defaultValue = "10") Integer size) {
-        return itemClient.search(userId, text, from, size);
+                                         @RequestParam(defaultValue = "10") Integer size,
+                                         @RequestParam(required = false)
+                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                         @RequestParam(required = false)
+                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        return itemClient.search(userId, text, from, size, start, end);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -57,4 +63,14 @@ public class ItemController {
                                              @Valid @RequestBody CommentInputDto commentInputDto) {
         return itemClient.addComment(userId, itemId, commentInputDto);
     }
+
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getAvailability(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                  @PathVariable Long itemId,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                  LocalDateTime from,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                  LocalDateTime to) {
+        return itemClient.getAvailability(userId, itemId, from, to);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.booking;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureMockRestServiceServer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit-server.url=http://server")
+@AutoConfigureMockMvc
+@AutoConfigureMockRestServiceServer
+public class BookingControllerTest {
+
+    private static final String HAS_NEXT_HEADER = "X-Has-Next";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BookingClient bookingClient;
+    @Autowired
+    private MockServerRestTemplateCustomizer mockServerCustomizer;
+
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void beforeEach() {
+        server = mockServerCustomizer.getServer((RestTemplate) ReflectionTestUtils.getField(bookingClient, "rest"));
+        server.reset();
+    }
+
+    @SneakyThrows
+    @Test
+    void getByBookerId_passCursorWithoutFrom_cursor() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, "true");
+        headers.set(NEXT_CURSOR_HEADER, "next");
+        server.expect(requestTo("http://server/bookings?state=ALL&size=10&cursor=first"))
+                .andExpect(MockRestRequestMatchers.header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("[{\"id\":1}]", MediaType.APPLICATION_JSON).headers(headers));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "first"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HAS_NEXT_HEADER, "true"))
+                .andExpect(header().string(NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$[0].id").value(1));
+        server.verify();
+    }
+
+    @SneakyThrows
+    @Test
+    void getByOwnerId_passFilters_statusAndItemId() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, "false");
+        server.expect(requestTo("http://server/bookings/owner?state=FUTURE&size=20&from=0&status=WAITING&itemId=2"))
+                .andExpect(MockRestRequestMatchers.header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "FUTURE")
+                        .param("status", "WAITING")
+                        .param("itemId", "2")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HAS_NEXT_HEADER, "false"))
+                .andExpect(header().doesNotExist(NEXT_CURSOR_HEADER));
+        server.verify();
+    }
+}
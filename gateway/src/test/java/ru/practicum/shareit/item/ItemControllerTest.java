@@ -0,0 +1,95 @@
+package ru.practicum.shareit.item;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureMockRestServiceServer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit-server.url=http://server")
+@AutoConfigureMockMvc
+@AutoConfigureMockRestServiceServer
+public class ItemControllerTest {
+
+    private static final String HAS_NEXT_HEADER = "X-Has-Next";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ItemClient itemClient;
+    @Autowired
+    private MockServerRestTemplateCustomizer mockServerCustomizer;
+
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void beforeEach() {
+        server = mockServerCustomizer.getServer((RestTemplate) ReflectionTestUtils.getField(itemClient, "rest"));
+        server.reset();
+    }
+
+    @SneakyThrows
+    @Test
+    void search_passHasNextHeader_serverHasNextPage() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, "true");
+        server.expect(requestTo("http://server/items/search?text=drill&from=0&size=10"))
+                .andExpect(MockRestRequestMatchers.header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess("[{\"id\":1,\"name\":\"drill\"}]", MediaType.APPLICATION_JSON)
+                        .headers(headers));
+
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "drill"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HAS_NEXT_HEADER, "true"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("drill"));
+        server.verify();
+    }
+
+    @SneakyThrows
+    @Test
+    void search_forwardOnlyStart_endIsMissing() {
+        server.expect(requestTo("http://server/items/search?text=drill&from=0&size=10&start=2030-01-01T10%3A00"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "drill")
+                        .param("start", "2030-01-01T10:00:00"))
+                .andExpect(status().isOk());
+        server.verify();
+    }
+
+    @SneakyThrows
+    @Test
+    void search_forwardOnlyEnd_startIsMissing() {
+        server.expect(requestTo("http://server/items/search?text=drill&from=0&size=10&end=2030-01-02T10%3A00"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "drill")
+                        .param("end", "2030-01-02T10:00:00"))
+                .andExpect(status().isOk());
+        server.verify();
+    }
+}
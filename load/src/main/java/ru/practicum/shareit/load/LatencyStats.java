@@ -0,0 +1,45 @@
+package ru.practicum.shareit.load;
+
+import java.util.Arrays;
+
+class LatencyStats {
+
+    private long[] values = new long[1024];
+    private int size;
+    private int errors;
+
+    void add(long nanos, boolean success) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void addAll(LatencyStats other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.values[i], true);
+        }
+        errors += other.errors;
+    }
+
+    int getCount() {
+        return size;
+    }
+
+    int getErrors() {
+        return errors;
+    }
+
+    double getPercentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        int index = Math.max((int) Math.ceil(percentile / 100 * size) - 1, 0);
+        return sorted[index] / 1_000_000.0;
+    }
+}
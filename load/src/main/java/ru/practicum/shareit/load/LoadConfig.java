@@ -0,0 +1,47 @@
+package ru.practicum.shareit.load;
+
+import java.nio.file.Path;
+
+class LoadConfig {
+
+    static final String DB_USER = "load";
+    static final String DB_PASSWORD = "load";
+
+    final int users = Integer.getInteger("load.users", 1000);
+    final int itemsPerUser = Integer.getInteger("load.itemsPerUser", 10);
+    final int bookingsPerItem = Integer.getInteger("load.bookingsPerItem", 10);
+    final int commentsPerItem = Integer.getInteger("load.commentsPerItem", 2);
+    final int requestsPerUser = Integer.getInteger("load.requestsPerUser", 2);
+
+    final int threads = Integer.getInteger("load.threads", 16);
+    final int warmupSeconds = Integer.getInteger("load.warmup", 10);
+    final int durationSeconds = Integer.getInteger("load.duration", 60);
+
+    final int serverPort = Integer.getInteger("load.server.port", 19090);
+    final int gatewayPort = Integer.getInteger("load.gateway.port", 18080);
+    final Path serverJar = Path.of(System.getProperty("load.server.jar",
+            "server/target/shareit-server-0.0.1-SNAPSHOT-exec.jar"));
+    final Path gatewayJar = Path.of(System.getProperty("load.gateway.jar",
+            "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar"));
+    final Path workDir = Path.of(System.getProperty("load.dir", "load/target/run")).toAbsolutePath();
+
+    long getItems() {
+        return (long) users * itemsPerUser;
+    }
+
+    long getRequests() {
+        return (long) users * requestsPerUser;
+    }
+
+    long getOwnerId(long itemId) {
+        return (itemId - 1) / itemsPerUser + 1;
+    }
+
+    long getBookerId(long ownerId) {
+        return ownerId % users + 1;
+    }
+
+    static boolean isAvailable(long itemId) {
+        return itemId % 10 != 0;
+    }
+}
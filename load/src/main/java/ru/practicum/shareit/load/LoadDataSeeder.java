@@ -0,0 +1,136 @@
+package ru.practicum.shareit.load;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+class LoadDataSeeder {
+
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "WAITING", "REJECTED"};
+    private static final int BATCH_SIZE = 1000;
+
+    private final String url;
+    private final LocalDateTime now;
+
+    LoadDataSeeder(String url, LocalDateTime now) {
+        this.url = url;
+        this.now = now;
+    }
+
+    void seed(LoadConfig config) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, LoadConfig.DB_USER, LoadConfig.DB_PASSWORD)) {
+            connection.setAutoCommit(false);
+            seedUsers(connection, config);
+            seedRequests(connection, config);
+            seedItems(connection, config);
+            seedBookings(connection, config);
+            seedComments(connection, config);
+            connection.commit();
+        }
+    }
+
+    private void seedUsers(Connection connection, LoadConfig config) throws SQLException {
+        try (PreparedStatement statement = connection
+                .prepareStatement("insert into users (id, name, email) values (?, ?, ?)")) {
+            for (long userId = 1; userId <= config.users; userId++) {
+                statement.setLong(1, userId);
+                statement.setString(2, "user" + userId);
+                statement.setString(3, "user" + userId + "@shareit.ru");
+                addBatch(statement, userId);
+            }
+            statement.executeBatch();
+        }
+        restartIdentity(connection, "users", config.users + 1L);
+    }
+
+    private void seedRequests(Connection connection, LoadConfig config) throws SQLException {
+        long requests = config.getRequests();
+        try (PreparedStatement statement = connection.prepareStatement("insert into requests " +
+                "(id, description, requester_id, created) values (?, ?, ?, ?)")) {
+            for (long requestId = 1; requestId <= requests; requestId++) {
+                statement.setLong(1, requestId);
+                statement.setString(2, "Need a drill " + requestId);
+                statement.setLong(3, (requestId - 1) / config.requestsPerUser + 1);
+                statement.setTimestamp(4, Timestamp.valueOf(now.minusMinutes(requestId)));
+                addBatch(statement, requestId);
+            }
+            statement.executeBatch();
+        }
+        restartIdentity(connection, "requests", requests + 1);
+    }
+
+    private void seedItems(Connection connection, LoadConfig config) throws SQLException {
+        long requests = config.getRequests();
+        try (PreparedStatement statement = connection.prepareStatement("insert into items " +
+                "(id, name, description, owner_id, request_id, available) values (?, ?, ?, ?, ?, ?)")) {
+            for (long itemId = 1; itemId <= config.getItems(); itemId++) {
+                statement.setLong(1, itemId);
+                statement.setString(2, "Drill " + itemId);
+                statement.setString(3, "Cordless drill number " + itemId);
+                statement.setLong(4, config.getOwnerId(itemId));
+                statement.setObject(5, requests > 0 && itemId % 2 == 0 ? itemId % requests + 1 : null);
+                statement.setBoolean(6, LoadConfig.isAvailable(itemId));
+                addBatch(statement, itemId);
+            }
+            statement.executeBatch();
+        }
+        restartIdentity(connection, "items", config.getItems() + 1);
+    }
+
+    private void seedBookings(Connection connection, LoadConfig config) throws SQLException {
+        long bookingId = 0;
+        try (PreparedStatement statement = connection.prepareStatement("insert into bookings " +
+                "(id, start_time, end_time, item_id, booker_id, status) values (?, ?, ?, ?, ?, ?)")) {
+            for (long itemId = 1; itemId <= config.getItems(); itemId++) {
+                for (int i = 0; i < config.bookingsPerItem; i++) {
+                    LocalDateTime start = now.plusDays(2L * (i - config.bookingsPerItem / 2)).plusHours(1);
+                    statement.setLong(1, ++bookingId);
+                    statement.setTimestamp(2, Timestamp.valueOf(start));
+                    statement.setTimestamp(3, Timestamp.valueOf(start.plusDays(1)));
+                    statement.setLong(4, itemId);
+                    statement.setLong(5, config.getBookerId(config.getOwnerId(itemId)));
+                    statement.setString(6, STATUSES[i % STATUSES.length]);
+                    addBatch(statement, bookingId);
+                }
+            }
+            statement.executeBatch();
+        }
+        restartIdentity(connection, "bookings", bookingId + 1);
+    }
+
+    private void seedComments(Connection connection, LoadConfig config) throws SQLException {
+        long commentId = 0;
+        try (PreparedStatement statement = connection.prepareStatement("insert into comments " +
+                "(id, text, item_id, author_id, created) values (?, ?, ?, ?, ?)")) {
+            for (long itemId = 1; itemId <= config.getItems(); itemId++) {
+                for (int i = 0; i < config.commentsPerItem; i++) {
+                    statement.setLong(1, ++commentId);
+                    statement.setString(2, "Works fine " + commentId);
+                    statement.setLong(3, itemId);
+                    statement.setLong(4, config.getBookerId(config.getOwnerId(itemId)));
+                    statement.setTimestamp(5, Timestamp.valueOf(now.minusHours(i)));
+                    addBatch(statement, commentId);
+                }
+            }
+            statement.executeBatch();
+        }
+        restartIdentity(connection, "comments", commentId + 1);
+    }
+
+    private static void addBatch(PreparedStatement statement, long row) throws SQLException {
+        statement.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private static void restartIdentity(Connection connection, String table, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("alter table %s alter column id restart with %d", table, next));
+        }
+    }
+}
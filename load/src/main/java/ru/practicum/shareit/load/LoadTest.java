@@ -0,0 +1,113 @@
+package ru.practicum.shareit.load;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = new LoadConfig();
+        prepareWorkDir(config.workDir);
+        String dbUrl = "jdbc:h2:file:" + config.workDir.resolve("shareit") + ";AUTO_SERVER=TRUE";
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        ShareItProcess server = ShareItProcess.start("Server", config.serverJar, config.serverPort,
+                config.workDir.resolve("server.log"), List.of(
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.url=" + dbUrl,
+                        "--spring.datasource.username=" + LoadConfig.DB_USER,
+                        "--spring.datasource.password=" + LoadConfig.DB_PASSWORD,
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN"));
+        ShareItProcess gateway = null;
+        try {
+            server.awaitHealthy(client);
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            long seedStart = System.nanoTime();
+            new LoadDataSeeder(dbUrl, now).seed(config);
+            System.out.printf("Seeded %d user(s) and %d item(s) in %d ms.%n", config.users, config.getItems(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            gateway = ShareItProcess.start("Gateway", config.gatewayJar, config.gatewayPort,
+                    config.workDir.resolve("gateway.log"), List.of(
+                            "--shareit-server.url=" + server.getUrl(),
+                            "--logging.level.org.springframework.web.client.RestTemplate=WARN"));
+            gateway.awaitHealthy(client);
+
+            Map<Scenario, LatencyStats> result = run(client, gateway.getUrl(), config, now.plusYears(1));
+            report(result, config.durationSeconds);
+        } finally {
+            if (gateway != null) {
+                gateway.stop();
+            }
+            server.stop();
+        }
+    }
+
+    private static Map<Scenario, LatencyStats> run(HttpClient client, String url, LoadConfig config,
+                                                   LocalDateTime bookingsFrom) throws Exception {
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long measureTo = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        AtomicLong bookingSlots = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads);
+        List<Future<Map<Scenario, LatencyStats>>> workers = new ArrayList<>();
+        for (int i = 0; i < config.threads; i++) {
+            workers.add(executor.submit(new LoadWorker(client, url, config, bookingsFrom,
+                    bookingSlots, measureFrom, measureTo)));
+        }
+        Map<Scenario, LatencyStats> result = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            result.put(scenario, new LatencyStats());
+        }
+        try {
+            for (Future<Map<Scenario, LatencyStats>> worker : workers) {
+                worker.get().forEach((scenario, stats) -> result.get(scenario).addAll(stats));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private static void report(Map<Scenario, LatencyStats> result, int durationSeconds) {
+        System.out.printf("%-16s %10s %8s %10s %10s %10s%n", "Scenario", "Requests", "Errors", "Req/s",
+                "p50, ms", "p99, ms");
+        result.forEach((scenario, stats) -> System.out.printf("%-16s %10d %8d %10.1f %10.2f %10.2f%n",
+                scenario, stats.getCount(), stats.getErrors(), (double) stats.getCount() / durationSeconds,
+                stats.getPercentileMillis(50), stats.getPercentileMillis(99)));
+    }
+
+    private static void prepareWorkDir(Path workDir) throws Exception {
+        if (Files.exists(workDir)) {
+            try (Stream<Path> files = Files.walk(workDir)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+        Files.createDirectories(workDir);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LoadWorker implements Callable<Map<Scenario, LatencyStats>> {
+
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient client;
+    private final String url;
+    private final LoadConfig config;
+    private final LocalDateTime bookingsFrom;
+    private final AtomicLong bookingSlots;
+    private final long measureFrom;
+    private final long measureTo;
+
+    LoadWorker(HttpClient client, String url, LoadConfig config, LocalDateTime bookingsFrom,
+               AtomicLong bookingSlots, long measureFrom, long measureTo) {
+        this.client = client;
+        this.url = url;
+        this.config = config;
+        this.bookingsFrom = bookingsFrom;
+        this.bookingSlots = bookingSlots;
+        this.measureFrom = measureFrom;
+        this.measureTo = measureTo;
+    }
+
+    @Override
+    public Map<Scenario, LatencyStats> call() throws Exception {
+        Map<Scenario, LatencyStats> result = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            result.put(scenario, new LatencyStats());
+        }
+        Random random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        while (start < measureTo) {
+            Scenario scenario = Scenario.pick(random.nextInt(Scenario.getTotalWeight()));
+            HttpRequest request = createRequest(scenario, random);
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            long end = System.nanoTime();
+            if (start >= measureFrom) {
+                result.get(scenario).add(end - start, status / 100 == 2);
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    private HttpRequest createRequest(Scenario scenario, Random random) {
+        long userId = random.nextInt(config.users) + 1;
+        switch (scenario) {
+            case SEARCH_ITEMS:
+                String text = random.nextBoolean() ? "drill" : "Drill+" + (random.nextInt(config.users) + 1);
+                return get(String.format("/items/search?text=%s&from=0&size=%d", text, PAGE_SIZE), userId);
+            case OWNER_BOOKINGS:
+                return get(String.format("/bookings/owner?state=ALL&from=0&size=%d", PAGE_SIZE), userId);
+            case ALL_REQUESTS:
+                return get(String.format("/requests/all?from=0&size=%d", PAGE_SIZE), userId);
+            case CREATE_BOOKING:
+                return createBooking(random);
+            default:
+                throw new IllegalArgumentException("Unknown scenario " + scenario);
+        }
+    }
+
+    private HttpRequest createBooking(Random random) {
+        long itemId;
+        do {
+            itemId = random.nextInt((int) config.getItems()) + 1;
+        } while (!LoadConfig.isAvailable(itemId));
+        LocalDateTime start = bookingsFrom.plusHours(2 * bookingSlots.getAndIncrement());
+        String body = String.format("{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}",
+                itemId, start, start.plusHours(1));
+        return HttpRequest.newBuilder(URI.create(url + "/bookings"))
+                .header(USER_HEADER, String.valueOf(config.getBookerId(config.getOwnerId(itemId))))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path, long userId) {
+        return HttpRequest.newBuilder(URI.create(url + path))
+                .header(USER_HEADER, String.valueOf(userId))
+                .GET()
+                .build();
+    }
+}
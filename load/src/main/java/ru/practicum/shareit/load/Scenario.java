@@ -0,0 +1,33 @@
+package ru.practicum.shareit.load;
+
+import java.util.Arrays;
+
+enum Scenario {
+    SEARCH_ITEMS(40),
+    OWNER_BOOKINGS(25),
+    ALL_REQUESTS(20),
+    CREATE_BOOKING(15);
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(scenario -> scenario.weight).sum();
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    static Scenario pick(int roll) {
+        int bound = 0;
+        for (Scenario scenario : values()) {
+            bound += scenario.weight;
+            if (roll < bound) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Roll must be less than " + TOTAL_WEIGHT);
+    }
+
+    static int getTotalWeight() {
+        return TOTAL_WEIGHT;
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class ShareItProcess {
+
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String name;
+    private final int port;
+    private final Process process;
+
+    private ShareItProcess(String name, int port, Process process) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+    }
+
+    static ShareItProcess start(String name, Path jar, int port, Path log, List<String> args) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", jar.toString(),
+                "--server.port=" + port));
+        command.addAll(args);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ShareItProcess(name, port, process);
+    }
+
+    void awaitHealthy(HttpClient client) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(getUrl() + "/actuator/health")).build();
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(String.format("%s exited with code %d.", name, process.exitValue()));
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(String.format("%s did not start in %s.", name, START_TIMEOUT));
+    }
+
+    String getUrl() {
+        return "http://localhost:" + port;
+    }
+
+    void stop() {
+        process.destroy();
+    }
+}
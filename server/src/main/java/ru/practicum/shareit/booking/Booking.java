@@ -1,7 +1,9 @@
 package ru.practicum.shareit.booking;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
 
@@ -24,12 +26,16 @@ public class Booking {
     @Column(name = "END_TIME")
     private LocalDateTime end;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ITEM_ID")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Item item;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "BOOKER_ID")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User booker;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.SlotDto;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingCalendar {
+
+    public static final String BOOKED_SLOTS_CACHE = "bookedSlots";
+
+    private final BookingRepository bookingRepository;
+    private final Clock clock;
+
+    // not read-only: a replica that lags behind an approval would cache stale slots until they expire
+    @Transactional
+    @Cacheable(cacheNames = BOOKED_SLOTS_CACHE, key = "#itemId")
+    public List<SlotDto> getBookedSlots(Long itemId) {
+        List<SlotDto> result = new ArrayList<>();
+        SlotDto current = null;
+        for (Booking booking : bookingRepository
+                .findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(itemId, Status.APPROVED, LocalDateTime.now(clock))) {
+            if (current != null && !booking.getStart().isAfter(current.getEnd())) {
+                if (booking.getEnd().isAfter(current.getEnd())) {
+                    current.setEnd(booking.getEnd());
+                }
+            } else {
+                current = new SlotDto(booking.getStart(), booking.getEnd());
+                result.add(current);
+            }
+        }
+        log.info("Item {} has {} booked slot(s).", itemId, result.size());
+        return Collections.unmodifiableList(result);
+    }
+
+    @TransactionalEventListener
+    @CacheEvict(cacheNames = BOOKED_SLOTS_CACHE, key = "#event.itemId")
+    public void onBookingApproved(BookingApprovedEvent event) {
+        log.info("Booked slots of item {} are evicted.", event.getItemId());
+    }
+}
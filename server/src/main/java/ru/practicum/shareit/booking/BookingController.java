@@ -1,7 +1,10 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
 import ru.practicum.shareit.booking.dto.BookingFullDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 
@@ -12,6 +15,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+
     private final BookingService bookingService;
 
     @PostMapping
@@ -34,20 +40,55 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingFullDto> getByBookerId(
+    public ResponseEntity<List<BookingFullDto>> getByBookerId(
             @RequestHeader("X-Sharer-User-Id") Long bookerId,
             @RequestParam String state,
-            @RequestParam Integer from,
-            @RequestParam Integer size) {
-        return bookingService.getByBookerId(bookerId, state, from, size);
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam Integer size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor == null) {
+            return withHasNext(bookingService.getByBookerId(bookerId, state, status, itemId, from, size));
+        }
+        return withNextCursor(bookingService
+                .getByBookerIdAfterCursor(bookerId, state, status, itemId, cursor, size));
     }
 
     @GetMapping("/owner")
-    public List<BookingFullDto> getByOwnerId(
+    public ResponseEntity<List<BookingFullDto>> getByOwnerId(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
             @RequestParam String state,
-            @RequestParam Integer from,
-            @RequestParam Integer size) {
-        return bookingService.getByOwnerId(ownerId, state, from, size);
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam Integer size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor == null) {
+            return withHasNext(bookingService.getByOwnerId(ownerId, state, status, itemId, from, size));
+        }
+        return withNextCursor(bookingService
+                .getByOwnerIdAfterCursor(ownerId, state, status, itemId, cursor, size));
+    }
+
+    @GetMapping("/owner/counts")
+    public BookingCountDto getCountsByOwnerId(@RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return bookingService.getCountsByOwnerId(ownerId);
+    }
+
+    private ResponseEntity<List<BookingFullDto>> withHasNext(Slice<BookingFullDto> bookings) {
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(bookings.hasNext()))
+                .body(bookings.getContent());
+    }
+
+    private ResponseEntity<List<BookingFullDto>> withNextCursor(Slice<BookingFullDto> bookings) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(bookings.hasNext()));
+        if (bookings.hasNext()) {
+            List<BookingFullDto> content = bookings.getContent();
+            response.header(NEXT_CURSOR_HEADER, BookingCursor.encode(content.get(content.size() - 1)));
+        }
+        return response.body(bookings.getContent());
     }
 }
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import ru.practicum.shareit.booking.dto.BookingFullDto;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.user.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+class BookingQueryRepositoryImpl implements BookingQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<BookingFullDto> findAllAsFullDto(Specification<Booking> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingFullDto> query = cb.createQuery(BookingFullDto.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Item> item = BookingSpecifications.join(booking, "item");
+        Join<Booking, User> booker = BookingSpecifications.join(booking, "booker");
+        query.select(cb.construct(BookingFullDto.class,
+                booking.get("id"),
+                booking.get("start"),
+                booking.get("end"),
+                item.get("id"),
+                item.get("name"),
+                item.get("description"),
+                item.get("available"),
+                item.get("itemRequest").get("id"),
+                booker.get("id"),
+                booker.get("name"),
+                booking.get("status")));
+
+        Predicate predicate = specification.toPredicate(booking, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), booking, cb));
+
+        List<BookingFullDto> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+}
@@ -1,80 +1,90 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
 
-    List<Booking> findAllByBookerId(Long bookerId,
-                                    Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
 
     @Query("select b from Booking b " +
-            "where b.booker.id = ?1 " +
-            "and current_timestamp between b.start and b.end")
-    List<Booking> findAllByBookerIdAndStateCurrent(Long bookerId,
-                                                   Pageable pageable);
+            "where b.item.id = ?1 " +
+            "and b.status = ?2 " +
+            "and b.end > ?3 " +
+            "order by b.start")
+    List<Booking> findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(Long itemId,
+                                                                     Status status,
+                                                                     LocalDateTime dateTime);
+
+    @Query("select b.id from Booking b " +
+            "where b.item.id = ?1 " +
+            "and b.status in ?2 " +
+            "and b.start < ?4 " +
+            "and b.end > ?3")
+    List<Long> findOverlappingIds(Long itemId,
+                                  Collection<Status> statuses,
+                                  LocalDateTime start,
+                                  LocalDateTime end,
+                                  Pageable pageable);
+
+    default boolean existsOverlapping(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return !findOverlappingIds(itemId, List.of(Status.WAITING, Status.APPROVED), start, end,
+                PageRequest.of(0, 1)).isEmpty();
+    }
 
     @Query("select b from Booking b " +
-            "where b.booker.id = ?1 " +
-            "and current_timestamp > b.end")
-    List<Booking> findAllByBookerIdAndStatePast(Long bookerId,
-                                                Pageable pageable);
+            "where b.item.id in ?1 " +
+            "and b.start < ?2 " +
+            "and b.status = ?3 " +
+            "and b.end = (select max(l.end) from Booking l " +
+            "where l.item.id = b.item.id " +
+            "and l.start < ?2 " +
+            "and l.status = ?3) " +
+            "order by b.item.id")
+    List<Booking> findLastByItemIdIn(Collection<Long> itemIds,
+                                     LocalDateTime localDate,
+                                     Status status);
 
     @Query("select b from Booking b " +
+            "where b.item.id in ?1 " +
+            "and b.start > ?2 " +
+            "and b.status = ?3 " +
+            "and b.end = (select min(n.end) from Booking n " +
+            "where n.item.id = b.item.id " +
+            "and n.start > ?2 " +
+            "and n.status = ?3) " +
+            "order by b.item.id")
+    List<Booking> findNextByItemIdIn(Collection<Long> itemIds,
+                                     LocalDateTime localDate,
+                                     Status status);
+
+    @Query("select case when count(b) > 0 then true else false end from Booking b " +
             "where b.booker.id = ?1 " +
-            "and current_timestamp < b.start")
-    List<Booking> findAllByBookerIdAndStateFuture(Long bookerId,
-                                                  Pageable pageable);
-
-    List<Booking> findAllByBookerIdAndStatus(Long bookerId,
-                                             Status status,
-                                             Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.item.owner.id = ?1")
-    List<Booking> findAllByOwnerId(Long ownerId,
-                                   Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.item.owner.id = ?1 " +
-            "and current_timestamp between b.start and b.end")
-    List<Booking> findAllByOwnerIdAndStateCurrent(Long ownerId,
-                                                  Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.item.owner.id = ?1 " +
-            "and current_timestamp > b.end")
-    List<Booking> findAllByOwnerIdAndStatePast(Long ownerId,
-                                               Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.item.owner.id = ?1 " +
-            "and current_timestamp < b.start")
-    List<Booking> findAllByOwnerIdAndStateFuture(Long ownerId,
-                                                 Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.item.owner.id = ?1 " +
-            "and b.status = ?2 " +
-            " order by b.start desc ")
-    List<Booking> findAllByOwnerIdAndStatus(Long ownerId,
-                                            Status status,
-                                            Pageable pageable);
-
-    Optional<Booking> findFirstByItemIdAndStartBeforeAndStatusOrderByEndDesc(Long itemId,
-                                                                             LocalDateTime localDate,
-                                                                             Status status);
-
-    Optional<Booking> findFirstByItemIdAndStartAfterAndStatusOrderByEndAsc(Long itemId,
-                                                                           LocalDateTime localDate,
-                                                                           Status status);
-
+            "and b.item.id = ?2 " +
+            "and b.end < ?3")
     Boolean existsByBookerIdAndItemIdAndEndBefore(Long bookerId,
                                                   Long itemId,
                                                   LocalDateTime dateTime);
+
+    @Query("select new ru.practicum.shareit.booking.dto.BookingCountDto(count(*), " +
+            "coalesce(sum(case when b.start <= ?2 and b.end >= ?2 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when b.end < ?2 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when b.start > ?2 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when b.status = ru.practicum.shareit.booking.Status.WAITING " +
+            "then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when b.status = ru.practicum.shareit.booking.Status.REJECTED " +
+            "then 1L else 0L end), 0L)) " +
+            "from Booking b " +
+            "where b.item.owner.id = ?1")
+    BookingCountDto countByOwnerId(Long ownerId, LocalDateTime now);
 }
@@ -1,15 +1,25 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
 import ru.practicum.shareit.booking.dto.BookingFullDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 
-import java.util.List;
-
 public interface BookingService {
 
-    List<BookingFullDto> getByBookerId(Long userId, String subState, Integer from, Integer size);
+    Slice<BookingFullDto> getByBookerId(Long userId, String subState, Status status, Long itemId,
+                                        Integer from, Integer size);
+
+    Slice<BookingFullDto> getByOwnerId(Long ownerId, String subState, Status status, Long itemId,
+                                       Integer from, Integer size);
+
+    Slice<BookingFullDto> getByBookerIdAfterCursor(Long bookerId, String subState, Status status, Long itemId,
+                                                   String cursor, Integer size);
+
+    Slice<BookingFullDto> getByOwnerIdAfterCursor(Long ownerId, String subState, Status status, Long itemId,
+                                                  String cursor, Integer size);
 
-    List<BookingFullDto> getByOwnerId(Long ownerId, String subState, Integer from, Integer size);
+    BookingCountDto getCountsByOwnerId(Long ownerId);
 
     BookingFullDto getById(Long userId, Long itemId);
 
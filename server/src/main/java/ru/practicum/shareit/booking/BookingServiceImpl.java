@@ -1,105 +1,109 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
 import ru.practicum.shareit.booking.dto.BookingFullDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.exception.UnknownStateException;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemService;
-import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
+import static org.springframework.data.jpa.domain.Specification.where;
+import static ru.practicum.shareit.booking.BookingSpecifications.*;
 
 @Service
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Slf4j
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    public static final String BOOKING_COUNTS_CACHE = "bookingCounts";
+
     private final BookingRepository bookingRepository;
     private final ItemService itemService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     @Override
-    public List<BookingFullDto> getByBookerId(Long bookerId, String subState, Integer from, Integer size) {
-        State state = getState(subState);
+    public Slice<BookingFullDto> getByBookerId(Long bookerId, String subState, Status status, Long itemId,
+                                               Integer from, Integer size) {
+        Specification<Booking> filter = getFilter(subState, status, itemId);
         Pageable pageable = getPage(from, size);
-        User booker = userService.getUserById(bookerId);
-        List<Booking> bookings = new ArrayList<>();
-        switch (state) {
-            case ALL:
-                bookings = bookingRepository.findAllByBookerId(booker.getId(), pageable);
-                break;
-            case CURRENT:
-                bookings = bookingRepository.findAllByBookerIdAndStateCurrent(booker.getId(), pageable);
-                break;
-            case PAST:
-                bookings = bookingRepository.findAllByBookerIdAndStatePast(booker.getId(), pageable);
-                break;
-            case FUTURE:
-                bookings = bookingRepository.findAllByBookerIdAndStateFuture(booker.getId(), pageable);
-                break;
-            case WAITING:
-                bookings = bookingRepository.findAllByBookerIdAndStatus(booker.getId(), Status.WAITING, pageable);
-                break;
-            case REJECTED:
-                bookings = bookingRepository.findAllByBookerIdAndStatus(booker.getId(), Status.REJECTED, pageable);
-                break;
-        }
-
-        List<BookingFullDto> result = bookings
-                .stream()
-                .map(BookingMapper::mapToFullDto)
-                .collect(Collectors.toList());
-
-        log.info("Found {} booking(s).", result.size());
+        userService.checkUserExists(bookerId);
+        Slice<BookingFullDto> result = bookingRepository
+                .findAllAsFullDto(where(byBooker(bookerId)).and(filter), pageable);
+        log.info("Found {} booking(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
         return result;
     }
 
     @Override
-    public List<BookingFullDto> getByOwnerId(Long ownerId, String subState, Integer from, Integer size) {
-        State state = getState(subState);
+    public Slice<BookingFullDto> getByOwnerId(Long ownerId, String subState, Status status, Long itemId,
+                                              Integer from, Integer size) {
+        Specification<Booking> filter = getFilter(subState, status, itemId);
         Pageable pageable = getPage(from, size);
-        User owner = userService.getUserById(ownerId);
-        List<Booking> bookings = new ArrayList<>();
-        switch (state) {
-            case ALL:
-                bookings = bookingRepository.findAllByOwnerId(owner.getId(), pageable);
-                break;
-            case CURRENT:
-                bookings = bookingRepository.findAllByOwnerIdAndStateCurrent(owner.getId(), pageable);
-                break;
-            case PAST:
-                bookings = bookingRepository.findAllByOwnerIdAndStatePast(owner.getId(), pageable);
-                break;
-            case FUTURE:
-                bookings = bookingRepository.findAllByOwnerIdAndStateFuture(owner.getId(), pageable);
-                break;
-            case WAITING:
-                bookings = bookingRepository.findAllByOwnerIdAndStatus(owner.getId(), Status.WAITING, pageable);
-                break;
-            case REJECTED:
-                bookings = bookingRepository.findAllByOwnerIdAndStatus(owner.getId(), Status.REJECTED, pageable);
-                break;
-        }
+        userService.checkUserExists(ownerId);
+        Slice<BookingFullDto> result = bookingRepository
+                .findAllAsFullDto(where(byOwner(ownerId)).and(filter), pageable);
+        log.info("Found {} booking(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
 
-        List<BookingFullDto> result = bookings
-                .stream()
-                .map(BookingMapper::mapToFullDto)
-                .collect(Collectors.toList());
+    @Override
+    public Slice<BookingFullDto> getByBookerIdAfterCursor(Long bookerId, String subState, Status status, Long itemId,
+                                                          String cursor, Integer size) {
+        Specification<Booking> filter = getFilter(subState, status, itemId);
+        BookingCursor after = BookingCursor.decode(cursor);
+        Pageable pageable = getSeekPage(size);
+        userService.checkUserExists(bookerId);
+        Slice<BookingFullDto> result = bookingRepository
+                .findAllAsFullDto(where(byBooker(bookerId)).and(filter).and(afterCursor(after)), pageable);
+        log.info("Found {} booking(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
 
-        log.info("Found {} booking(s).", result.size());
+    @Override
+    public Slice<BookingFullDto> getByOwnerIdAfterCursor(Long ownerId, String subState, Status status, Long itemId,
+                                                         String cursor, Integer size) {
+        Specification<Booking> filter = getFilter(subState, status, itemId);
+        BookingCursor after = BookingCursor.decode(cursor);
+        Pageable pageable = getSeekPage(size);
+        userService.checkUserExists(ownerId);
+        Slice<BookingFullDto> result = bookingRepository
+                .findAllAsFullDto(where(byOwner(ownerId)).and(filter).and(afterCursor(after)), pageable);
+        log.info("Found {} booking(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
+
+    @Cacheable(cacheNames = BOOKING_COUNTS_CACHE, key = "#ownerId")
+    @Override
+    public BookingCountDto getCountsByOwnerId(Long ownerId) {
+        userService.checkUserExists(ownerId);
+        BookingCountDto result = bookingRepository.countByOwnerId(ownerId, LocalDateTime.now(clock));
+        log.info("Owner {} has {} booking(s).", ownerId, result.getAll());
         return result;
     }
 
@@ -107,9 +111,9 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public BookingFullDto getById(Long userId, Long bookingId) {
         Booking booking = getBookingById(bookingId);
-        User booker = booking.getBooker();
-        User owner = userService.getUserById(booking.getItem().getOwner().getId());
-        if (!booker.getId().equals(userId) && !owner.getId().equals(userId)) {
+        Long bookerId = booking.getBooker().getId();
+        Long ownerId = booking.getItem().getOwner().getId();
+        if (!bookerId.equals(userId) && !ownerId.equals(userId)) {
             throw new IllegalAccessException("The booking can only be viewed " +
                     "by the author or the owner of the item.");
         }
@@ -124,8 +128,8 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     @Override
     public BookingFullDto create(Long userId, BookingInputDto bookingInputDto) {
-        User booker = userService.getUserById(userId);
-        Item item = itemService.getItemById(bookingInputDto.getItemId());
+        UserSnapshot booker = userService.getUserById(userId);
+        Item item = itemService.lockItemById(bookingInputDto.getItemId());
 
         if (booker.getId().equals(item.getOwner().getId())) {
             throw new IllegalAccessException("The owner cannot book his own things");
@@ -135,13 +139,21 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalStateException(String.format("Item %d is unavailable.", item.getId()));
         }
 
+        if (isBooked(item.getId(), bookingInputDto.getStart(), bookingInputDto.getEnd())) {
+            throw new IllegalStateException(String.format("Item %d is already booked for this period.", item.getId()));
+        }
+
         Booking booking = new Booking();
         booking.setItem(item);
-        booking.setBooker(booker);
-        BookingFullDto result =
-                Optional.of(bookingRepository.save(BookingMapper.mapToBooking(bookingInputDto, booking)))
-                        .map(BookingMapper::mapToFullDto)
-                        .orElseThrow();
+        booking.setBooker(userService.getReference(booker.getId()));
+        BookingFullDto result;
+        try {
+            result = Optional.of(bookingRepository.save(BookingMapper.mapToBooking(bookingInputDto, booking)))
+                    .map(saved -> BookingMapper.mapToFullDto(saved, UserMapper.mapToShortDto(booker)))
+                    .orElseThrow();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException(String.format("Item %d is already booked for this period.", item.getId()));
+        }
         log.info("Booking {} {} created.", result.getId(), result.getItem().getName());
         return result;
     }
@@ -150,18 +162,21 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     @Override
     public BookingFullDto approve(Long userId, Long bookingId, Boolean isApproved) {
-        User owner = userService.getUserById(userId);
+        userService.checkUserExists(userId);
         Booking booking = getBookingById(bookingId);
         Item item = itemService.getItemById(booking.getItem().getId());
 
-        if (!booking.getStatus().equals(Status.WAITING) && owner.getId().equals(item.getOwner().getId())) {
+        if (!booking.getStatus().equals(Status.WAITING) && userId.equals(item.getOwner().getId())) {
             throw new IllegalStateException(String.format("Booking %d cannot be updated", bookingId));
         }
-        if (!owner.getId().equals(item.getOwner().getId())) {
+        if (!userId.equals(item.getOwner().getId())) {
             throw new IllegalAccessException("Only the owner of the item can confirm the booking.");
         }
 
         booking.setStatus(isApproved ? Status.APPROVED : Status.REJECTED);
+        if (isApproved) {
+            eventPublisher.publishEvent(new BookingApprovedEvent(item.getId()));
+        }
         log.info("Booking status changed to {}.", booking.getStatus());
         return BookingMapper.mapToFullDto(booking);
     }
@@ -173,6 +188,16 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new NullPointerException(String.format("Booking %d is not found.", bookingId)));
     }
 
+    private boolean isBooked(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.existsOverlapping(itemId, start, end);
+    }
+
+    private Specification<Booking> getFilter(String subState, Status status, Long itemId) {
+        return where(inState(getState(subState), LocalDateTime.now(clock)))
+                .and(withStatus(status))
+                .and(ofItem(itemId));
+    }
+
     private State getState(String state) {
         try {
             return State.valueOf(state);
@@ -187,4 +212,11 @@ public class BookingServiceImpl implements BookingService {
         }
         return PageRequest.of(from / size, size, Sort.by("start").descending());
     }
+
+    private PageRequest getSeekPage(Integer size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must not be less than one.");
+        }
+        return PageRequest.of(0, size, Sort.by("start").descending().and(Sort.by("id").descending()));
+    }
 }
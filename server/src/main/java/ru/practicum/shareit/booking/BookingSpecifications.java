@@ -0,0 +1,64 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+
+public class BookingSpecifications {
+
+    public static Specification<Booking> byBooker(Long bookerId) {
+        return (root, query, cb) -> cb.equal(root.get("booker").get("id"), bookerId);
+    }
+
+    public static Specification<Booking> byOwner(Long ownerId) {
+        return (root, query, cb) -> cb.equal(join(root, "item").get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Booking> inState(State state, LocalDateTime now) {
+        switch (state) {
+            case CURRENT:
+                return (root, query, cb) -> cb.and(cb.lessThanOrEqualTo(root.<LocalDateTime>get("start"), now),
+                        cb.greaterThanOrEqualTo(root.<LocalDateTime>get("end"), now));
+            case PAST:
+                return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("end"), now);
+            case FUTURE:
+                return (root, query, cb) -> cb.greaterThan(root.<LocalDateTime>get("start"), now);
+            case WAITING:
+                return withStatus(Status.WAITING);
+            case REJECTED:
+                return withStatus(Status.REJECTED);
+            default:
+                return null;
+        }
+    }
+
+    public static Specification<Booking> withStatus(Status status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Booking> ofItem(Long itemId) {
+        if (itemId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("item").get("id"), itemId);
+    }
+
+    public static Specification<Booking> afterCursor(BookingCursor cursor) {
+        return (root, query, cb) -> cb.or(cb.lessThan(root.<LocalDateTime>get("start"), cursor.getStart()),
+                cb.and(cb.equal(root.<LocalDateTime>get("start"), cursor.getStart()),
+                        cb.lessThan(root.<Long>get("id"), cursor.getId())));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Join<Booking, T> join(Root<Booking> root, String attribute) {
+        return (Join<Booking, T>) root.getJoins().stream()
+                .filter(join -> join.getAttribute().getName().equals(attribute))
+                .findFirst()
+                .orElseGet(() -> root.join(attribute));
+    }
+}
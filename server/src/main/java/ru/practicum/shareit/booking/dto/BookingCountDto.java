@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Value;
+
+@Value
+public class BookingCountDto {
+
+    Long all;
+    Long current;
+    Long past;
+    Long future;
+    Long waiting;
+    Long rejected;
+}
@@ -20,4 +20,13 @@ public class BookingFullDto {
     private ItemShortDto item;
     private UserShortDto booker;
     private Status status;
+
+    public BookingFullDto(Long id, LocalDateTime start, LocalDateTime end,
+                          Long itemId, String itemName, String itemDescription, Boolean itemAvailable,
+                          Long itemRequestId, Long bookerId, String bookerName, Status status) {
+        this(id, start, end,
+                new ItemShortDto(itemId, itemName, itemDescription, itemAvailable, itemRequestId),
+                new UserShortDto(bookerId, bookerName),
+                status);
+    }
 }
@@ -4,15 +4,20 @@ import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.Status;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserShortDto;
 
 public class BookingMapper {
 
     public static BookingFullDto mapToFullDto(Booking booking) {
+        return mapToFullDto(booking, UserMapper.mapToShortDto(booking.getBooker()));
+    }
+
+    public static BookingFullDto mapToFullDto(Booking booking, UserShortDto booker) {
         return new BookingFullDto(booking.getId(),
                 booking.getStart(),
                 booking.getEnd(),
                 ItemMapper.mapToShortDto(booking.getItem()),
-                UserMapper.mapToShortDto(booking.getBooker()),
+                booker,
                 booking.getStatus());
     }
 
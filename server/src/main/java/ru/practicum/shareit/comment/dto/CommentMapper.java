@@ -7,9 +7,13 @@ import java.time.LocalDateTime;
 public class CommentMapper {
 
     public static CommentDto mapToDto(Comment comment) {
+        return mapToDto(comment, comment.getAuthor().getName());
+    }
+
+    public static CommentDto mapToDto(Comment comment, String authorName) {
         return new CommentDto(comment.getId(),
                 comment.getText(),
-                comment.getAuthor().getName(),
+                authorName,
                 comment.getCreated());
     }
 
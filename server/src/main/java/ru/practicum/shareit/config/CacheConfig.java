@@ -0,0 +1,40 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.booking.BookingCalendar;
+import ru.practicum.shareit.booking.BookingServiceImpl;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> bookingCountsCacheCustomizer(
+            @Value("${shareit.cache.booking-counts.expire-after-write:5s}") Duration expireAfterWrite) {
+        return cacheManager -> cacheManager.registerCustomCache(BookingServiceImpl.BOOKING_COUNTS_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(10000)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build());
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> bookedSlotsCacheCustomizer(
+            @Value("${shareit.cache.booked-slots.expire-after-write:30s}") Duration expireAfterWrite) {
+        return cacheManager -> cacheManager.registerCustomCache(BookingCalendar.BOOKED_SLOTS_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(10000)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build());
+    }
+}
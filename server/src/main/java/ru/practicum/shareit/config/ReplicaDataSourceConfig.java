@@ -0,0 +1,65 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(ReplicaDataSourceConfig.REPLICA_PREFIX + ".url")
+public class ReplicaDataSourceConfig {
+
+    static final String REPLICA_PREFIX = "shareit.datasource.replica";
+    static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties(REPLICA_PREFIX + ".hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties replicaProperties = binder
+                .bind(REPLICA_PREFIX, DataSourceProperties.class)
+                .get();
+        if (replicaProperties.getUsername() == null) {
+            replicaProperties.setUsername(properties.getUsername());
+            replicaProperties.setPassword(properties.getPassword());
+        }
+        HikariDataSource replicaDataSource = replicaProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // shared pool settings first; shareit.datasource.replica.hikari.* is bound on top afterwards
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replicaDataSource));
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadOnlyRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadOnlyRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
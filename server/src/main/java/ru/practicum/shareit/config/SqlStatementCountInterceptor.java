@@ -0,0 +1,40 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@RequiredArgsConstructor
+public class SqlStatementCountInterceptor implements HandlerInterceptor {
+
+    static final String SQL_STATEMENTS_SUMMARY = "shareit.sql.statements";
+    private static final String START_COUNT_ATTRIBUTE = SqlStatementCountInterceptor.class.getName() + ".startCount";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_COUNT_ATTRIBUTE, sqlStatementCounter.getCount());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        long executed = sqlStatementCounter.getCount() - (long) request.getAttribute(START_COUNT_ATTRIBUTE);
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(SQL_STATEMENTS_SUMMARY)
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(executed);
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    public long getCount() {
+        return count.get()[0];
+    }
+}
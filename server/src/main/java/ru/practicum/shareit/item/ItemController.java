@@ -1,12 +1,17 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentInputDto;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
+import ru.practicum.shareit.item.dto.SlotDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -15,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemController {
 
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+
     private final ItemService itemService;
 
     @PostMapping
@@ -37,17 +44,31 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemFullDto> getByUserId(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                         @RequestParam Integer from,
-                                         @RequestParam Integer size) {
-        return itemService.getByUserId(userId, from, size);
+    public ResponseEntity<List<ItemFullDto>> getByUserId(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                         @RequestParam Integer from,
+                                                         @RequestParam Integer size) {
+        Slice<ItemFullDto> items = itemService.getByUserId(userId, from, size);
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(items.hasNext()))
+                .body(items.getContent());
     }
 
     @GetMapping("/search")
-    public List<ItemFullDto> search(@RequestParam String text,
-                                    @RequestParam Integer from,
-                                    @RequestParam Integer size) {
-        return itemService.search(text, from, size);
+    public ResponseEntity<List<ItemFullDto>> search(@RequestParam String text,
+                                                    @RequestParam Integer from,
+                                                    @RequestParam Integer size,
+                                                    @RequestParam(required = false)
+                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                    LocalDateTime start,
+                                                    @RequestParam(required = false)
+                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                    LocalDateTime end) {
+        Slice<ItemFullDto> items = start == null && end == null
+                ? itemService.search(text, from, size)
+                : itemService.searchAvailable(text, start, end, from, size);
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(items.hasNext()))
+                .body(items.getContent());
     }
 
     @PostMapping("/{itemId}/comment")
@@ -56,4 +77,13 @@ public class ItemController {
                                  @RequestBody CommentInputDto commentInputDto) {
         return itemService.addComment(userId, itemId, commentInputDto);
     }
+
+    @GetMapping("/{itemId}/availability")
+    public List<SlotDto> getAvailability(@PathVariable Long itemId,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                         LocalDateTime from,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                         LocalDateTime to) {
+        return itemService.getAvailability(itemId, from, to);
+    }
 }
\ No newline at end of file
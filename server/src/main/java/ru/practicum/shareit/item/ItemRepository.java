@@ -1,20 +1,56 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
-    List<Item> findAllByOwnerId(Long ownerId, Pageable pageable);
+    @EntityGraph(attributePaths = {"owner"})
+    Optional<Item> findById(Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = ?1")
+    Optional<Item> findByIdForUpdate(Long id);
+
+    @EntityGraph(attributePaths = {"owner"})
+    @Query("select i from Item i where i.owner.id = ?1")
+    Slice<Item> findAllByOwnerId(Long ownerId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"owner"})
+    List<Item> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select i from Item i where i.itemRequest.id = ?1")
     List<Item> findAllByItemRequestId(Long requestId);
 
+    @Query("select i from Item i where i.itemRequest.id in ?1")
+    List<Item> findAllByItemRequestIdIn(Collection<Long> requestIds);
+
+    @EntityGraph(attributePaths = {"owner"})
+    @Query(" select i from Item i " +
+            "where i.available = true" +
+            " and (upper(i.name) like upper(concat('%', ?1, '%')) escape '\\'" +
+            " or upper(i.description) like upper(concat('%', ?1, '%')) escape '\\')")
+    Slice<Item> search(String text, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"owner"})
     @Query(" select i from Item i " +
-            "where upper(i.name) like upper(concat('%', ?1, '%')) " +
-            " or upper(i.description) like upper(concat('%', ?1, '%'))" +
-            " and i.available = true")
-    List<Item> search(String text, Pageable pageable);
-}
\ No newline at end of file
+            "where i.available = true" +
+            " and (upper(i.name) like upper(concat('%', ?1, '%')) escape '\\'" +
+            " or upper(i.description) like upper(concat('%', ?1, '%')) escape '\\')" +
+            " and not exists (select b.id from Booking b " +
+            "where b.item = i " +
+            "and b.status = ru.practicum.shareit.booking.Status.APPROVED " +
+            "and b.start < ?3 " +
+            "and b.end > ?2)")
+    Slice<Item> searchAvailable(String text, LocalDateTime start, LocalDateTime end, Pageable pageable);
+}
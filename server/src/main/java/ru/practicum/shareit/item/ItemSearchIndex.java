@@ -0,0 +1,233 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class ItemSearchIndex implements SmartInitializingSingleton {
+
+    static final int GRAM_LENGTH = 3;
+    private static final int WARM_UP_PAGE_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, IndexedItem> items = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.index.enabled:false}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean canSearch(String text) {
+        return enabled && text.length() >= GRAM_LENGTH;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        warmUp();
+    }
+
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Page<Item> page = itemRepository.findAll(PageRequest.of(0, WARM_UP_PAGE_SIZE, Sort.by("id")));
+        page.forEach(item -> put(item.getId(), toIndexedItem(item)));
+        while (page.hasNext()) {
+            page = itemRepository.findAll(page.nextPageable());
+            page.forEach(item -> put(item.getId(), toIndexedItem(item)));
+        }
+        log.info("Search index is warmed up with {} item(s).", items.size());
+    }
+
+    public void add(Item item) {
+        if (!enabled) {
+            return;
+        }
+        long id = item.getId();
+        IndexedItem indexedItem = toIndexedItem(item);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(id, indexedItem);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(id, indexedItem);
+            }
+        });
+    }
+
+    public long[] search(String text) {
+        String query = normalize(text);
+        lock.readLock().lock();
+        try {
+            long[] candidates = null;
+            for (String gram : grams(query)) {
+                PostingList postingList = postings.get(gram);
+                if (postingList == null) {
+                    return new long[0];
+                }
+                candidates = candidates == null
+                        ? postingList.toArray()
+                        : postingList.intersect(candidates);
+                if (candidates.length == 0) {
+                    return candidates;
+                }
+            }
+            if (candidates == null) {
+                return new long[0];
+            }
+            return Arrays.stream(candidates)
+                    .filter(id -> items.get(id).matches(query))
+                    .toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long id, IndexedItem indexedItem) {
+        lock.writeLock().lock();
+        try {
+            IndexedItem oldItem = items.put(id, indexedItem);
+            if (oldItem != null) {
+                grams(oldItem).forEach(gram -> removePosting(gram, id));
+            }
+            if (!indexedItem.available) {
+                return;
+            }
+            grams(indexedItem).forEach(gram -> postings
+                    .computeIfAbsent(gram, key -> new PostingList())
+                    .add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePosting(String gram, long id) {
+        PostingList postingList = postings.get(gram);
+        if (postingList != null && postingList.remove(id) && postingList.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    private static IndexedItem toIndexedItem(Item item) {
+        return new IndexedItem(normalize(item.getName()),
+                normalize(item.getDescription()),
+                item.isAvailable());
+    }
+
+    private static Set<String> grams(IndexedItem item) {
+        Set<String> result = grams(item.name);
+        result.addAll(grams(item.description));
+        return result;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            result.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toUpperCase(Locale.ROOT);
+    }
+
+    private static class IndexedItem {
+
+        private final String name;
+        private final String description;
+        private final boolean available;
+
+        IndexedItem(String name, String description, boolean available) {
+            this.name = name;
+            this.description = description;
+            this.available = available;
+        }
+
+        boolean matches(String query) {
+            return available && (name.contains(query) || description.contains(query));
+        }
+    }
+
+    static class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        boolean add(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+            return true;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        long[] intersect(long[] other) {
+            long[] result = new long[Math.min(size, other.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.length) {
+                if (ids[i] < other[j]) {
+                    i++;
+                } else if (ids[i] > other[j]) {
+                    j++;
+                } else {
+                    result[count++] = ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentInputDto;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
+import ru.practicum.shareit.item.dto.SlotDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
 
-    List<ItemFullDto> search(String text, Integer from, Integer size);
+    Slice<ItemFullDto> search(String text, Integer from, Integer size);
 
-    List<ItemFullDto> getByUserId(Long userId, Integer from, Integer size);
+    Slice<ItemFullDto> searchAvailable(String text, LocalDateTime start, LocalDateTime end, Integer from, Integer size);
+
+    Slice<ItemFullDto> getByUserId(Long userId, Integer from, Integer size);
 
     ItemFullDto getById(Long userId, Long itemId);
 
@@ -21,5 +26,9 @@ public interface ItemService {
 
     Item getItemById(Long itemId);
 
+    Item lockItemById(Long itemId);
+
     CommentDto addComment(Long userId, Long itemId, CommentInputDto commentInputDto);
+
+    List<SlotDto> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
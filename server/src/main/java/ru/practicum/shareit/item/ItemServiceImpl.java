@@ -1,35 +1,52 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCalendar;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.Status;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.comment.Comment;
 import ru.practicum.shareit.comment.CommentRepository;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentInputDto;
 import ru.practicum.shareit.comment.dto.CommentMapper;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.SlotDto;
 import ru.practicum.shareit.request.ItemRequestService;
-import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Slf4j
 @RequiredArgsConstructor
 public
@@ -38,33 +55,53 @@ class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final BookingCalendar bookingCalendar;
+    private final Clock clock;
 
     private final UserService userService;
     private final ItemRequestService itemRequestService;
 
     @Override
-    public List<ItemFullDto> search(String text, Integer from, Integer size) {
+    public Slice<ItemFullDto> search(String text, Integer from, Integer size) {
         if (text.length() == 0) {
             log.debug("Search by empty text.");
-            return Collections.emptyList();
+            return new SliceImpl<>(Collections.emptyList());
         }
         Pageable pageable = getPage(from, size);
-        List<ItemFullDto> result = itemRepository
-                .search(text, pageable).stream()
-                .map(item -> addData(-1L, item))
-                .collect(Collectors.toList());
-        log.info("Found {} item(s).", result.size());
+        Slice<Item> items = itemSearchIndex.canSearch(text)
+                ? searchInIndex(text, pageable)
+                : itemRepository.search(escapeLike(text), pageable);
+        Slice<ItemFullDto> result = new SliceImpl<>(addData(-1L, items.getContent()), pageable, items.hasNext());
+        log.info("Found {} item(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
+
+    @Override
+    public Slice<ItemFullDto> searchAvailable(String text, LocalDateTime start, LocalDateTime end,
+                                              Integer from, Integer size) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new IllegalArgumentException("The start of the period must be before its end.");
+        }
+        if (text.length() == 0) {
+            log.debug("Search by empty text.");
+            return new SliceImpl<>(Collections.emptyList());
+        }
+        Pageable pageable = getPage(from, size);
+        Slice<Item> items = itemRepository.searchAvailable(escapeLike(text), start, end, pageable);
+        Slice<ItemFullDto> result = new SliceImpl<>(addData(-1L, items.getContent()), pageable, items.hasNext());
+        log.info("Found {} item(s) available from {} to {}, has next: {}.", result.getNumberOfElements(), start, end,
+                result.hasNext());
         return result;
     }
 
     @Override
-    public List<ItemFullDto> getByUserId(Long userId, Integer from, Integer size) {
-        User user = userService.getUserById(userId);
+    public Slice<ItemFullDto> getByUserId(Long userId, Integer from, Integer size) {
+        userService.checkUserExists(userId);
         Pageable pageable = getPage(from, size);
-        List<ItemFullDto> result = itemRepository.findAllByOwnerId(user.getId(), pageable).stream()
-                .map(item -> addData(user.getId(), item))
-                .collect(Collectors.toList());
-        log.info("Found {} item(s).", result.size());
+        Slice<Item> items = itemRepository.findAllByOwnerId(userId, pageable);
+        Slice<ItemFullDto> result = new SliceImpl<>(addData(userId, items.getContent()), pageable, items.hasNext());
+        log.info("Found {} item(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
         return result;
     }
 
@@ -78,33 +115,43 @@ class ItemServiceImpl implements ItemService {
         return result;
     }
 
+    @Transactional
     @Override
     public ItemFullDto create(Long userId, ItemInputDto itemInputDto) {
-        User user = userService.getUserById(userId);
+        UserSnapshot owner = userService.getUserById(userId);
         Item newItem = new Item();
-        newItem.setOwner(user);
+        newItem.setOwner(userService.getReference(owner.getId()));
 
         if (itemInputDto.getRequestId() != null) {
             newItem.setItemRequest(itemRequestService.getRequestById(itemInputDto.getRequestId()));
         }
 
         ItemFullDto result = Optional.of(itemRepository.save(ItemMapper.mapToItem(itemInputDto, newItem)))
-                .map(item -> addData(userId, item))
+                .map(item -> {
+                    itemSearchIndex.add(item);
+                    ItemFullDto itemFullDto = ItemMapper.mapToFullDto(item, UserMapper.mapToShortDto(owner));
+                    itemFullDto.setComments(new ArrayList<>());
+                    return itemFullDto;
+                })
                 .orElseThrow();
         log.info("Item {} {} created.", result.getId(), result.getName());
         return result;
     }
 
+    @Transactional
     @Override
     public ItemFullDto update(Long userId, Long itemId, ItemInputDto itemInputDto) {
-        User user = userService.getUserById(userId);
+        userService.checkUserExists(userId);
         Item oldItem = getItemById(itemId);
-        if (!user.getId().equals(oldItem.getOwner().getId())) {
+        if (!userId.equals(oldItem.getOwner().getId())) {
             log.warn("User {} is not the owner of the item {}.", userId, oldItem.getId());
             throw new IllegalArgumentException("Only the owner can edit an item");
         }
         ItemFullDto result = Optional.of(itemRepository.save(ItemMapper.mapToItem(itemInputDto, oldItem)))
-                .map(item -> addData(userId, item))
+                .map(item -> {
+                    itemSearchIndex.add(item);
+                    return addData(userId, item);
+                })
                 .orElseThrow();
         log.info("Item {} {} updated.", result.getId(), result.getName());
         return result;
@@ -116,56 +163,142 @@ class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new NullPointerException(String.format("Item %d is not found.", itemId)));
     }
 
+    @Transactional
+    @Override
+    public Item lockItemById(Long itemId) {
+        return itemRepository
+                .findByIdForUpdate(itemId)
+                .orElseThrow(() -> new NullPointerException(String.format("Item %d is not found.", itemId)));
+    }
+
+    @Transactional
     @Override
     public CommentDto addComment(Long userId, Long itemId, CommentInputDto commentInputDto) {
-        User author = userService.getUserById(userId);
+        UserSnapshot author = userService.getUserById(userId);
         Item item = getItemById(itemId);
 
         if (!bookingRepository
                 .existsByBookerIdAndItemIdAndEndBefore(author.getId(), item.getId(),
-                        LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))) {
+                        LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS))) {
             throw new NoSuchElementException("The user has not booked this item.");
         }
 
         Comment comment = new Comment();
         comment.setItem(item);
-        comment.setAuthor(author);
+        comment.setAuthor(userService.getReference(author.getId()));
 
         CommentDto commentDto =
                 Optional.of(commentRepository.save(CommentMapper.mapToComment(commentInputDto, comment)))
-                        .map(CommentMapper::mapToDto)
+                        .map(saved -> CommentMapper.mapToDto(saved, author.getName()))
                         .orElseThrow();
         log.info("Comment {} added to item {}.", commentDto.getId(), item.getId());
         return commentDto;
     }
 
+    @Override
+    @Transactional // booked slots are cached, so they are read from the primary
+    public List<SlotDto> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The start of the period must be before its end.");
+        }
+        if (!itemRepository.existsById(itemId)) {
+            throw new NullPointerException(String.format("Item %d is not found.", itemId));
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime freeFrom = from.isAfter(now) ? from : now;
+        List<SlotDto> result = new ArrayList<>();
+        for (SlotDto booked : bookingCalendar.getBookedSlots(itemId)) {
+            if (!freeFrom.isBefore(to) || !booked.getStart().isBefore(to)) {
+                break;
+            }
+            if (booked.getEnd().isAfter(freeFrom)) {
+                if (booked.getStart().isAfter(freeFrom)) {
+                    result.add(new SlotDto(freeFrom, booked.getStart()));
+                }
+                freeFrom = booked.getEnd();
+            }
+        }
+        if (freeFrom.isBefore(to)) {
+            result.add(new SlotDto(freeFrom, to));
+        }
+        log.info("Found {} free slot(s) of item {}.", result.size(), itemId);
+        return result;
+    }
+
     public ItemFullDto addData(Long userId, Item item) {
-        ItemFullDto result = ItemMapper.mapToFullDto(item);
-
-        if (result.getOwner().getId().equals(userId)) {
-            result.setLastBooking(bookingRepository
-                    .findFirstByItemIdAndStartBeforeAndStatusOrderByEndDesc(result.getId(),
-                            LocalDateTime.now(),
-                            Status.APPROVED)
-                    .map(BookingMapper::mapToShortDto)
-                    .orElse(null));
-
-            result.setNextBooking(bookingRepository
-                    .findFirstByItemIdAndStartAfterAndStatusOrderByEndAsc(result.getId(),
-                            LocalDateTime.now(),
-                            Status.APPROVED)
-                    .map(BookingMapper::mapToShortDto)
-                    .orElse(null));
+        return addData(userId, List.of(item)).get(0);
+    }
+
+    public List<ItemFullDto> addData(Long userId, List<Item> items) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        List<Long> ownItemIds = items.stream()
+                .filter(item -> item.getOwner().getId().equals(userId))
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, BookingShortDto> lastBookings = Collections.emptyMap();
+        Map<Long, BookingShortDto> nextBookings = Collections.emptyMap();
+        if (!ownItemIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            lastBookings = mapByItemId(bookingRepository
+                    .findLastByItemIdIn(ownItemIds, now, Status.APPROVED));
+            nextBookings = mapByItemId(bookingRepository
+                    .findNextByItemIdIn(ownItemIds, now, Status.APPROVED));
         }
 
-        result.setComments(commentRepository.findAllByItemId(result.getId())
+        Map<Long, List<CommentDto>> comments = commentRepository.findAllByItemIdIn(itemIds)
                 .stream()
-                .map(CommentMapper::mapToDto)
-                .collect(Collectors.toList()));
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::mapToDto, Collectors.toList())));
 
+        List<ItemFullDto> result = new ArrayList<>(items.size());
+        for (Item item : items) {
+            ItemFullDto itemFullDto = ItemMapper.mapToFullDto(item);
+            itemFullDto.setLastBooking(lastBookings.get(item.getId()));
+            itemFullDto.setNextBooking(nextBookings.get(item.getId()));
+            itemFullDto.setComments(comments.getOrDefault(item.getId(), new ArrayList<>()));
+            result.add(itemFullDto);
+        }
         return result;
     }
 
+    // the search text is a literal substring, as in the in-memory index, not a LIKE pattern
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private Slice<Item> searchInIndex(String text, Pageable pageable) {
+        long[] matches = itemSearchIndex.search(text);
+        boolean hasNext = matches.length > pageable.getOffset() + pageable.getPageSize();
+        List<Long> ids = Arrays.stream(matches)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .boxed()
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+        return new SliceImpl<>(itemRepository.findAllByIdIn(ids).stream()
+                .sorted(Comparator.comparing(Item::getId))
+                .collect(Collectors.toList()), pageable, hasNext);
+    }
+
+    private Map<Long, BookingShortDto> mapByItemId(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(),
+                        BookingMapper::mapToShortDto,
+                        (first, second) -> first.getId() < second.getId() ? first : second));
+    }
+
     private PageRequest getPage(Integer from, Integer size) {
         if (size <= 0 || from < 0) {
             throw new IllegalArgumentException("Page size must not be less than one.");
@@ -2,10 +2,15 @@ package ru.practicum.shareit.item.dto;
 
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserShortDto;
 
 public class ItemMapper {
 
     public static ItemFullDto mapToFullDto(Item item) {
+        return mapToFullDto(item, UserMapper.mapToShortDto(item.getOwner()));
+    }
+
+    public static ItemFullDto mapToFullDto(Item item, UserShortDto owner) {
         return new ItemFullDto(item.getId(),
                 item.getName(),
                 item.getDescription(),
@@ -13,7 +18,7 @@ public class ItemMapper {
                 item.getItemRequest() != null
                         ? item.getItemRequest().getId()
                         : null,
-                UserMapper.mapToShortDto(item.getOwner()));
+                owner);
     }
 
     public static ItemShortDto mapToShortDto(Item item) {
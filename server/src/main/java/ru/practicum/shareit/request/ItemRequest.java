@@ -2,7 +2,9 @@ package ru.practicum.shareit.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import ru.practicum.shareit.user.User;
 
 import javax.persistence.*;
@@ -21,8 +23,10 @@ public class ItemRequest {
 
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "REQUESTER_ID")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User requester;
 
     private LocalDateTime created;
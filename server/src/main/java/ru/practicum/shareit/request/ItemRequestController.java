@@ -1,6 +1,8 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
@@ -12,6 +14,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemRequestController {
 
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+
     private final ItemRequestService itemRequestService;
 
     @GetMapping
@@ -22,11 +26,14 @@ public class ItemRequestController {
 
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAll(
+    public ResponseEntity<List<ItemRequestDto>> getAll(
             @RequestHeader("X-Sharer-User-Id") Long requesterId,
             @RequestParam Integer from,
             @RequestParam Integer size) {
-        return itemRequestService.getAll(requesterId, from, size);
+        Slice<ItemRequestDto> requests = itemRequestService.getAll(requesterId, from, size);
+        return ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(requests.hasNext()))
+                .body(requests.getContent());
     }
 
     @GetMapping("/{requestId}")
@@ -1,13 +1,23 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
+    @EntityGraph(attributePaths = {"requester"})
+    Optional<ItemRequest> findById(Long id);
+
+    @EntityGraph(attributePaths = {"requester"})
+    @Query("select r from ItemRequest r where r.requester.id = ?1 order by r.created desc")
     List<ItemRequest> findAllByRequesterIdOrderByCreatedDesc(Long requesterId);
 
-    List<ItemRequest> findAllByRequesterIdNotOrderByCreatedDesc(Long requesterId, Pageable pageable);
+    @EntityGraph(attributePaths = {"requester"})
+    Slice<ItemRequest> findAllByRequesterIdNotOrderByCreatedDesc(Long requesterId, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 
@@ -10,7 +11,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getByRequesterId(Long requesterId);
 
-    List<ItemRequestDto> getAll(Long requesterId, Integer from, Integer size);
+    Slice<ItemRequestDto> getAll(Long requesterId, Integer from, Integer size);
 
     ItemRequestDto create(Long userId, ItemRequestInputDto itemRequestInputDto);
 
@@ -1,26 +1,36 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
-import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Slf4j
 @RequiredArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
@@ -32,49 +42,40 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public List<ItemRequestDto> getByRequesterId(Long requesterId) {
-        User requester = userService.getUserById(requesterId);
+        userService.checkUserExists(requesterId);
         List<ItemRequestDto> result = itemRequestRepository
-                .findAllByRequesterIdOrderByCreatedDesc(requester.getId())
+                .findAllByRequesterIdOrderByCreatedDesc(requesterId)
                 .stream()
                 .map(ItemRequestMapper::mapToDto)
                 .collect(Collectors.toList());
 
-        result.forEach(itemRequestDto -> itemRequestDto.setItems(itemRepository
-                .findAllByItemRequestId(itemRequestDto.getId())
-                .stream()
-                .map(ItemMapper::mapToShortDto)
-                .collect(Collectors.toList())));
+        addItems(result);
         log.info("Found {} booking(s).", result.size());
         return result;
     }
 
     @Override
-    public List<ItemRequestDto> getAll(Long requesterId, Integer from, Integer size) {
-        User requester = userService.getUserById(requesterId);
+    public Slice<ItemRequestDto> getAll(Long requesterId, Integer from, Integer size) {
+        userService.checkUserExists(requesterId);
         Pageable pageable = getPage(from, size);
-        List<ItemRequestDto> result = itemRequestRepository
-                .findAllByRequesterIdNotOrderByCreatedDesc(requester.getId(), pageable)
-                .stream()
-                .map(ItemRequestMapper::mapToDto)
-                .collect(Collectors.toList());
+        Slice<ItemRequestDto> result = itemRequestRepository
+                .findAllByRequesterIdNotOrderByCreatedDesc(requesterId, pageable)
+                .map(ItemRequestMapper::mapToDto);
 
-        result.forEach(itemRequestDto -> itemRequestDto.setItems(itemRepository
-                .findAllByItemRequestId(itemRequestDto.getId())
-                .stream()
-                .map(ItemMapper::mapToShortDto)
-                .collect(Collectors.toList())));
-        log.info("Found {} booking(s).", result.size());
+        addItems(result.getContent());
+        log.info("Found {} request(s), has next: {}.", result.getNumberOfElements(), result.hasNext());
         return result;
     }
 
+    @Transactional
     public ItemRequestDto create(Long userId, ItemRequestInputDto itemRequestInputDto) {
-        User user = userService.getUserById(userId);
+        UserSnapshot user = userService.getUserById(userId);
         ItemRequest itemRequest = new ItemRequest();
-        itemRequest.setRequester(user);
+        itemRequest.setRequester(userService.getReference(user.getId()));
         itemRequest.setCreated(LocalDateTime.now());
         ItemRequestDto result = Optional.of(itemRequestRepository
                         .save(ItemRequestMapper.mapToItemRequest(itemRequestInputDto, itemRequest)))
-                .map(ItemRequestMapper::mapToDto)
+                .map(request -> ItemRequestMapper.mapToDto(request, UserMapper.mapToShortDto(user)))
                 .orElseThrow();
         log.info("Request {} created.", result.getId());
         return result;
@@ -83,7 +84,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @SneakyThrows
     @Override
     public ItemRequestDto getById(Long requesterId, Long requestId) {
-        User requester = userService.getUserById(requesterId);
+        userService.checkUserExists(requesterId);
         ItemRequest itemRequest = getRequestById(requestId);
 
         ItemRequestDto result = itemRequestRepository.findById(itemRequest.getId())
@@ -107,6 +108,23 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         return result;
     }
 
+    private void addItems(List<ItemRequestDto> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return;
+        }
+
+        List<Long> requestIds = itemRequests.stream()
+                .map(ItemRequestDto::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ItemShortDto>> items = itemRepository.findAllByItemRequestIdIn(requestIds)
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getItemRequest().getId(),
+                        Collectors.mapping(ItemMapper::mapToShortDto, Collectors.toList())));
+
+        itemRequests.forEach(itemRequestDto -> itemRequestDto
+                .setItems(items.getOrDefault(itemRequestDto.getId(), new ArrayList<>())));
+    }
+
     private PageRequest getPage(Integer from, Integer size) {
         if (size <= 0 || from < 0) {
             throw new IllegalArgumentException("Page size must not be less than one.");
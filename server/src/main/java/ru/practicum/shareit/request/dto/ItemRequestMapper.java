@@ -2,14 +2,19 @@ package ru.practicum.shareit.request.dto;
 
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserShortDto;
 
 public class ItemRequestMapper {
 
     public static ItemRequestDto mapToDto(ItemRequest itemRequest) {
+        return mapToDto(itemRequest, UserMapper.mapToShortDto(itemRequest.getRequester()));
+    }
+
+    public static ItemRequestDto mapToDto(ItemRequest itemRequest, UserShortDto requester) {
         return new ItemRequestDto(
                 itemRequest.getId(),
                 itemRequest.getDescription(),
-                UserMapper.mapToShortDto(itemRequest.getRequester()),
+                requester,
                 itemRequest.getCreated());
     }
 
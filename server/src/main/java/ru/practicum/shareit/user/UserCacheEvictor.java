@@ -0,0 +1,17 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class UserCacheEvictor {
+
+    @TransactionalEventListener
+    @CacheEvict(cacheNames = {UserServiceImpl.USERS_CACHE, UserServiceImpl.USER_IDS_CACHE}, key = "#event.userId")
+    public void onUserChanged(UserChangedEvent event) {
+        log.info("Cached user {} is evicted.", event.getUserId());
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.user;
+
+import lombok.Value;
+
+@Value
+public class UserChangedEvent {
+
+    Long userId;
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.user;
 
 import ru.practicum.shareit.user.dto.UserFullDto;
 import ru.practicum.shareit.user.dto.UserInputDto;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 
 import java.util.List;
 
@@ -17,5 +18,9 @@ public interface UserService {
 
     void deleteById(Long userId);
 
-    User getUserById(Long userId);
+    UserSnapshot getUserById(Long userId);
+
+    User getReference(Long userId);
+
+    void checkUserExists(Long userId);
 }
\ No newline at end of file
@@ -1,23 +1,35 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.user.dto.UserFullDto;
 import ru.practicum.shareit.user.dto.UserInputDto;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Slf4j
 @RequiredArgsConstructor
 public
 class UserServiceImpl implements UserService {
 
+    static final String USERS_CACHE = "users";
+    static final String USER_IDS_CACHE = "userIds";
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<UserFullDto> getAll() {
@@ -39,6 +51,7 @@ class UserServiceImpl implements UserService {
         return result;
     }
 
+    @Transactional
     @Override
     public UserFullDto create(UserInputDto userInputDto) {
         User user = UserMapper.mapToUser(userInputDto, new User());
@@ -49,29 +62,53 @@ class UserServiceImpl implements UserService {
         return result;
     }
 
+    @Transactional
     @Override
     public UserFullDto update(UserInputDto userInputDto, Long userId) {
-        User oldUser = getUserById(userId);
+        User oldUser = findUserById(userId);
         UserFullDto result = Optional.of(userRepository.save(UserMapper.mapToUser(userInputDto, oldUser)))
                 .map(UserMapper::mapToFullDto)
                 .orElseThrow(() -> new NullPointerException(String.format("User %d is not found.", userId)));
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
         log.info("User {} {} updated.", result.getId(), result.getName());
         return result;
     }
 
+    @Transactional
     @Override
     public void deleteById(Long userId) {
-        User result = getUserById(userId);
+        User result = findUserById(userId);
         userRepository.deleteById(result.getId());
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
         log.info("User {} removed.", result.getName());
     }
 
+    @Cacheable(cacheNames = USERS_CACHE, key = "#userId")
     @Override
-    public User getUserById(Long userId) {
-        User result = userRepository
-                .findById(userId)
-                .orElseThrow(() -> new NullPointerException(String.format("User %d is not found.", userId)));
+    public UserSnapshot getUserById(Long userId) {
+        UserSnapshot result = UserMapper.mapToSnapshot(findUserById(userId));
         log.info("User {} is found.", result.getId());
         return result;
     }
+
+    @Override
+    public User getReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
+    // void result: only a found user is cached, a missing one throws and is looked up again next time
+    @Cacheable(cacheNames = USER_IDS_CACHE, key = "#userId")
+    @Override
+    public void checkUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NullPointerException(String.format("User %d is not found.", userId));
+        }
+        log.info("User {} exists.", userId);
+    }
+
+    private User findUserById(Long userId) {
+        return userRepository
+                .findById(userId)
+                .orElseThrow(() -> new NullPointerException(String.format("User %d is not found.", userId)));
+    }
 }
\ No newline at end of file
@@ -14,6 +14,16 @@ public class UserMapper {
                 user.getName());
     }
 
+    public static UserShortDto mapToShortDto(UserSnapshot user) {
+        return new UserShortDto(user.getId(),
+                user.getName());
+    }
+
+    public static UserSnapshot mapToSnapshot(User user) {
+        return new UserSnapshot(user.getId(),
+                user.getName());
+    }
+
 
     public static User mapToUser(UserInputDto userInputDto, User user) {
         if (userInputDto.getId() != null) {
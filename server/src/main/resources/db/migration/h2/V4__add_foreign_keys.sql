@@ -0,0 +1,7 @@
+ALTER TABLE PUBLIC.REQUESTS ADD CONSTRAINT IF NOT EXISTS FK_REQUESTS_USERS_ID FOREIGN KEY (REQUESTER_ID) REFERENCES PUBLIC.USERS (ID) ON DELETE CASCADE;
+ALTER TABLE PUBLIC.ITEMS ADD CONSTRAINT IF NOT EXISTS FK_ITEMS_USER_ID FOREIGN KEY (OWNER_ID) REFERENCES PUBLIC.USERS (ID);
+ALTER TABLE PUBLIC.ITEMS ADD CONSTRAINT IF NOT EXISTS FK_ITEMS_REQUESTS_ID FOREIGN KEY (REQUEST_ID) REFERENCES PUBLIC.REQUESTS (ID);
+ALTER TABLE PUBLIC.BOOKINGS ADD CONSTRAINT IF NOT EXISTS FK_BOOKINGS_ITEMS_ID FOREIGN KEY (ITEM_ID) REFERENCES PUBLIC.ITEMS (ID) ON DELETE CASCADE;
+ALTER TABLE PUBLIC.BOOKINGS ADD CONSTRAINT IF NOT EXISTS FK_BOOKINGS_USERS_ID FOREIGN KEY (BOOKER_ID) REFERENCES PUBLIC.USERS (ID) ON DELETE CASCADE;
+ALTER TABLE PUBLIC.COMMENTS ADD CONSTRAINT IF NOT EXISTS FK_COMMENTS_ITEMS_ID FOREIGN KEY (ITEM_ID) REFERENCES PUBLIC.ITEMS (ID) ON DELETE CASCADE;
+ALTER TABLE PUBLIC.COMMENTS ADD CONSTRAINT IF NOT EXISTS FK_COMMENTS_USERS_ID FOREIGN KEY (AUTHOR_ID) REFERENCES PUBLIC.USERS (ID) ON DELETE CASCADE;
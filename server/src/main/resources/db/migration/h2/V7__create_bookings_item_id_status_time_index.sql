@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME_END_TIME ON PUBLIC.BOOKINGS (ITEM_ID, STATUS, START_TIME, END_TIME);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ITEM_ID ON PUBLIC.BOOKINGS (ITEM_ID);
+ALTER TABLE PUBLIC.BOOKINGS DROP CONSTRAINT IF EXISTS FK_BOOKINGS_ITEMS_ID;
+DROP INDEX IF EXISTS PUBLIC.IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME;
+ALTER TABLE PUBLIC.BOOKINGS ADD CONSTRAINT IF NOT EXISTS FK_BOOKINGS_ITEMS_ID FOREIGN KEY (ITEM_ID) REFERENCES PUBLIC.ITEMS (ID) ON DELETE CASCADE;
@@ -0,0 +1,10 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_REQUESTS_REQUESTER_ID_CREATED ON PUBLIC.REQUESTS (REQUESTER_ID, CREATED);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_ITEMS_OWNER_ID ON PUBLIC.ITEMS (OWNER_ID);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_ITEMS_REQUEST_ID ON PUBLIC.ITEMS (REQUEST_ID);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_BOOKINGS_BOOKER_ID_START_TIME ON PUBLIC.BOOKINGS (BOOKER_ID, START_TIME);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_BOOKINGS_BOOKER_ID_STATUS_START_TIME ON PUBLIC.BOOKINGS (BOOKER_ID, STATUS, START_TIME);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_BOOKINGS_BOOKER_ID_ITEM_ID_END_TIME ON PUBLIC.BOOKINGS (BOOKER_ID, ITEM_ID, END_TIME);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME ON PUBLIC.BOOKINGS (ITEM_ID, STATUS, START_TIME);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_COMMENTS_ITEM_ID ON PUBLIC.COMMENTS (ITEM_ID);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_ITEMS_NAME_TRGM ON PUBLIC.ITEMS USING GIN (UPPER(NAME) GIN_TRGM_OPS);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_ITEMS_DESCRIPTION_TRGM ON PUBLIC.ITEMS USING GIN (UPPER(DESCRIPTION) GIN_TRGM_OPS);
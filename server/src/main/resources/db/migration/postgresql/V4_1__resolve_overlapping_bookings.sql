@@ -0,0 +1,30 @@
+UPDATE PUBLIC.BOOKINGS B
+SET STATUS = 'REJECTED'
+WHERE B.STATUS = 'WAITING'
+  AND EXISTS (SELECT 1
+              FROM PUBLIC.BOOKINGS O
+              WHERE O.ITEM_ID = B.ITEM_ID
+                AND O.ID <> B.ID
+                AND O.START_TIME < B.END_TIME
+                AND B.START_TIME < O.END_TIME
+                AND (O.STATUS = 'APPROVED' OR (O.STATUS = 'WAITING' AND O.ID < B.ID)));
+
+DO $$
+DECLARE
+    CONFLICTS TEXT;
+BEGIN
+    SELECT STRING_AGG(A.ID || ' and ' || B.ID, ', ')
+    INTO CONFLICTS
+    FROM PUBLIC.BOOKINGS A
+             JOIN PUBLIC.BOOKINGS B ON B.ITEM_ID = A.ITEM_ID AND B.ID > A.ID
+    WHERE A.STATUS = 'APPROVED'
+      AND B.STATUS = 'APPROVED'
+      AND A.START_TIME < B.END_TIME
+      AND B.START_TIME < A.END_TIME;
+
+    IF CONFLICTS IS NOT NULL THEN
+        RAISE EXCEPTION 'Approved bookings overlap and must be resolved before BOOKINGS_NO_OVERLAP is added: %',
+            CONFLICTS;
+    END IF;
+END
+$$;
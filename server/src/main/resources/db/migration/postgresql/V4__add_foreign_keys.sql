@@ -0,0 +1,31 @@
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_requests_users_id') THEN
+        ALTER TABLE PUBLIC.REQUESTS ADD CONSTRAINT FK_REQUESTS_USERS_ID FOREIGN KEY (REQUESTER_ID) REFERENCES PUBLIC.USERS (ID) ON DELETE CASCADE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_items_user_id') THEN
+        ALTER TABLE PUBLIC.ITEMS ADD CONSTRAINT FK_ITEMS_USER_ID FOREIGN KEY (OWNER_ID) REFERENCES PUBLIC.USERS (ID);
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_items_requests_id') THEN
+        ALTER TABLE PUBLIC.ITEMS ADD CONSTRAINT FK_ITEMS_REQUESTS_ID FOREIGN KEY (REQUEST_ID) REFERENCES PUBLIC.REQUESTS (ID);
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_bookings_items_id') THEN
+        ALTER TABLE PUBLIC.BOOKINGS ADD CONSTRAINT FK_BOOKINGS_ITEMS_ID FOREIGN KEY (ITEM_ID) REFERENCES PUBLIC.ITEMS (ID) ON DELETE CASCADE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_bookings_users_id') THEN
+        ALTER TABLE PUBLIC.BOOKINGS ADD CONSTRAINT FK_BOOKINGS_USERS_ID FOREIGN KEY (BOOKER_ID) REFERENCES PUBLIC.USERS (ID) ON DELETE CASCADE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_comments_items_id') THEN
+        ALTER TABLE PUBLIC.COMMENTS ADD CONSTRAINT FK_COMMENTS_ITEMS_ID FOREIGN KEY (ITEM_ID) REFERENCES PUBLIC.ITEMS (ID) ON DELETE CASCADE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT WHERE CONNAME = 'fk_comments_users_id') THEN
+        ALTER TABLE PUBLIC.COMMENTS ADD CONSTRAINT FK_COMMENTS_USERS_ID FOREIGN KEY (AUTHOR_ID) REFERENCES PUBLIC.USERS (ID) ON DELETE CASCADE;
+    END IF;
+END
+$$;
@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS BTREE_GIST;
+ALTER TABLE PUBLIC.BOOKINGS
+    ADD CONSTRAINT BOOKINGS_NO_OVERLAP
+        EXCLUDE USING GIST (ITEM_ID WITH =, TSRANGE(START_TIME, END_TIME) WITH &&)
+        WHERE (STATUS IN ('WAITING', 'APPROVED'));
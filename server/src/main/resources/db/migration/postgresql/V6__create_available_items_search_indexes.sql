@@ -0,0 +1,4 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_ITEMS_AVAILABLE_NAME_TRGM ON PUBLIC.ITEMS USING GIN (UPPER(NAME) GIN_TRGM_OPS) WHERE AVAILABLE;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_ITEMS_AVAILABLE_DESCRIPTION_TRGM ON PUBLIC.ITEMS USING GIN (UPPER(DESCRIPTION) GIN_TRGM_OPS) WHERE AVAILABLE;
+DROP INDEX CONCURRENTLY IF EXISTS PUBLIC.IDX_ITEMS_NAME_TRGM;
+DROP INDEX CONCURRENTLY IF EXISTS PUBLIC.IDX_ITEMS_DESCRIPTION_TRGM;
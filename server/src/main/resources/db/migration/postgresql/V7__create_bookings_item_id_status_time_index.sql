@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME_END_TIME ON PUBLIC.BOOKINGS (ITEM_ID, STATUS, START_TIME, END_TIME);
+DROP INDEX CONCURRENTLY IF EXISTS PUBLIC.IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME;
@@ -0,0 +1 @@
+RESET LOCK_TIMEOUT;
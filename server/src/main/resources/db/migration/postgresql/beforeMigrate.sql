@@ -0,0 +1,3 @@
+-- Flyway runs Postgres callbacks and migrations on one connection. Migrations that take an ACCESS EXCLUSIVE lock,
+-- such as V5, fail fast instead of queueing every BOOKINGS query behind a long-running transaction.
+SET LOCK_TIMEOUT = '10s';
@@ -0,0 +1,39 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlywayBaselineTest {
+
+    @Test
+    void migrate_createAllIndexes_existingSchemaWithoutHistory() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1",
+                "test", "test");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V1__create_tables.sql"),
+                new ClassPathResource("db/migration/h2/V4__add_foreign_keys.sql")).execute(dataSource);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        List<String> indexes = new JdbcTemplate(dataSource).queryForList(
+                "select INDEX_NAME from INFORMATION_SCHEMA.INDEXES where TABLE_SCHEMA = 'PUBLIC'", String.class);
+        assertThat(indexes).contains("IDX_REQUESTS_REQUESTER_ID_CREATED", "IDX_ITEMS_OWNER_ID",
+                "IDX_ITEMS_REQUEST_ID", "IDX_BOOKINGS_BOOKER_ID_START_TIME",
+                "IDX_BOOKINGS_BOOKER_ID_STATUS_START_TIME", "IDX_BOOKINGS_BOOKER_ID_ITEM_ID_END_TIME",
+                "IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME_END_TIME", "IDX_BOOKINGS_ITEM_ID", "IDX_COMMENTS_ITEM_ID");
+        assertThat(indexes).doesNotContain("IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME");
+    }
+}
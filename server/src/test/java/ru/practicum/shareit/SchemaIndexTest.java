@@ -0,0 +1,173 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.Status;
+import ru.practicum.shareit.comment.CommentRepository;
+import ru.practicum.shareit.config.SqlStatementRecorder;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.request.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.jpa.domain.Specification.where;
+import static ru.practicum.shareit.booking.BookingSpecifications.byBooker;
+import static ru.practicum.shareit.booking.BookingSpecifications.byOwner;
+import static ru.practicum.shareit.booking.BookingSpecifications.withStatus;
+
+@DataJpaTest
+@AutoConfigureTestDatabase
+@Import(SqlStatementRecorder.class)
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    private final Pageable byStartDesc = PageRequest.of(0, 10, Sort.by("start").descending());
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate.execute("insert into USERS (ID, NAME, EMAIL) " +
+                "select X, 'user' || X, 'user' || X || '@mail.com' from system_range(1, 100)");
+        jdbcTemplate.execute("insert into REQUESTS (ID, DESCRIPTION, REQUESTER_ID, CREATED) " +
+                "select X, 'request' || X, mod(X, 100) + 1, current_timestamp from system_range(1, 500)");
+        jdbcTemplate.execute("insert into ITEMS (ID, NAME, DESCRIPTION, OWNER_ID, REQUEST_ID, AVAILABLE) " +
+                "select X, 'item' || X, 'item' || X, mod(X, 100) + 1, mod(X, 500) + 1, true " +
+                "from system_range(1, 1000)");
+        jdbcTemplate.execute("insert into BOOKINGS (ID, START_TIME, END_TIME, ITEM_ID, BOOKER_ID, STATUS) " +
+                "select X, dateadd(day, X, current_timestamp), dateadd(day, X + 1, current_timestamp), " +
+                "mod(X, 1000) + 1, mod(X, 100) + 1, " +
+                "case mod(X, 4) when 0 then 'WAITING' when 1 then 'APPROVED' when 2 then 'REJECTED' " +
+                "else 'CANCELED' end " +
+                "from system_range(1, 10000)");
+        jdbcTemplate.execute("insert into COMMENTS (ID, TEXT, ITEM_ID, AUTHOR_ID, CREATED) " +
+                "select X, 'comment' || X, mod(X, 1000) + 1, mod(X, 100) + 1, current_timestamp " +
+                "from system_range(1, 2000)");
+    }
+
+    @Test
+    void findAllAsFullDto_useBookerIndex_bookerSpec() {
+        assertIndexLookup(explain(() -> bookingRepository.findAllAsFullDto(where(byBooker(1L)), byStartDesc)),
+                "BOOKER_ID = ");
+    }
+
+    @Test
+    void findAllAsFullDto_useBookerStatusStartIndex_bookerStatusSpec() {
+        assertThat(explain(() -> bookingRepository.findAllAsFullDto(where(byBooker(1L))
+                .and(withStatus(Status.WAITING)), byStartDesc)))
+                .contains("IDX_BOOKINGS_BOOKER_ID_STATUS_START_TIME");
+    }
+
+    @Test
+    void findAllAsFullDto_useOwnerAndItemIndexes_ownerSpec() {
+        String plan = explain(() -> bookingRepository.findAllAsFullDto(where(byOwner(1L)), byStartDesc));
+
+        assertThat(plan).contains("IDX_ITEMS_OWNER_ID");
+        assertIndexLookup(plan, "ITEM_ID = ");
+    }
+
+    @Test
+    void findLastByItemIdIn_useItemStatusStartIndex() {
+        assertThat(explain(() -> bookingRepository.findLastByItemIdIn(List.of(1L, 2L), LocalDateTime.now(),
+                Status.APPROVED)))
+                .contains("IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME_END_TIME:");
+    }
+
+    @Test
+    void findAllByItemIdAndStatusAndEndAfterOrderByStartAsc_useItemIndex() {
+        String plan = explain(() -> bookingRepository.findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(1L,
+                Status.APPROVED, LocalDateTime.now()));
+
+        // Only ITEM_ID and STATUS of the widened index match here, and H2 charges for the unused trailing
+        // columns while rating four statuses as unselective, so it prefers the single-column FK index.
+        assertThat(plan).contains("IDX_BOOKINGS_ITEM_ID:");
+        assertIndexLookup(plan, "ITEM_ID = ");
+    }
+
+    @Test
+    void existsByBookerIdAndItemIdAndEndBefore_useBookerItemEndIndex() {
+        String plan = explain(() -> bookingRepository.existsByBookerIdAndItemIdAndEndBefore(1L, 1L,
+                LocalDateTime.now()));
+
+        assertThat(plan).contains("IDX_BOOKINGS_BOOKER_ID_ITEM_ID_END_TIME");
+        assertIndexLookup(plan, "BOOKER_ID = ");
+    }
+
+    @Test
+    void existsOverlapping_useItemStatusIndex() {
+        String plan = explain(() -> bookingRepository.existsOverlapping(1L, LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1)));
+
+        assertThat(plan).contains("IDX_BOOKINGS_ITEM_ID_STATUS_START_TIME_END_TIME:");
+        assertIndexLookup(plan, "ITEM_ID = ");
+    }
+
+    @Test
+    void findAllByOwnerId_useOwnerIndex() {
+        String plan = explain(() -> itemRepository.findAllByOwnerId(1L, PageRequest.of(0, 10, Sort.by("id"))));
+
+        assertThat(plan).contains("IDX_ITEMS_OWNER_ID");
+        assertIndexLookup(plan, "OWNER_ID = ");
+    }
+
+    @Test
+    void findAllByItemRequestIdIn_useRequestIndex() {
+        String plan = explain(() -> itemRepository.findAllByItemRequestIdIn(List.of(1L, 2L)));
+
+        assertThat(plan).contains("IDX_ITEMS_REQUEST_ID");
+        assertIndexLookup(plan, "REQUEST_ID IN(");
+    }
+
+    @Test
+    void findAllByItemIdIn_useCommentItemIndex() {
+        String plan = explain(() -> commentRepository.findAllByItemIdIn(List.of(1L, 2L)));
+
+        assertThat(plan).contains("IDX_COMMENTS_ITEM_ID");
+        assertIndexLookup(plan, "ITEM_ID IN(");
+    }
+
+    @Test
+    void findAllByItemRequestId_useRequestIndex() {
+        assertIndexLookup(explain(() -> itemRepository.findAllByItemRequestId(1L)), "REQUEST_ID = ");
+    }
+
+    @Test
+    void findAllByRequesterIdOrderByCreatedDesc_useRequesterIndex() {
+        assertIndexLookup(explain(() -> itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(1L)),
+                "REQUESTER_ID = ");
+    }
+
+    private String explain(Runnable call) {
+        List<String> statements = sqlStatementRecorder.record(call);
+        assertThat(statements).hasSize(1);
+        return jdbcTemplate.query(connection -> connection.prepareStatement("explain " + statements.get(0)),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : null);
+    }
+
+    private void assertIndexLookup(String plan, String condition) {
+        assertThat(plan).doesNotContain("tableScan");
+        assertThat(plan).containsPattern("/\\* PUBLIC\\.\\w+: [^*]*" + Pattern.quote(condition));
+    }
+}
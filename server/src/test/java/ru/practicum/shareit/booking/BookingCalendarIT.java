@@ -0,0 +1,90 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingFullDto;
+import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemFullDto;
+import ru.practicum.shareit.item.dto.ItemInputDto;
+import ru.practicum.shareit.item.dto.SlotDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserFullDto;
+import ru.practicum.shareit.user.dto.UserInputDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingCalendarIT {
+
+    @Autowired
+    private BookingCalendar bookingCalendar;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserFullDto owner;
+    private UserFullDto booker;
+    private ItemFullDto item;
+    private Cache bookedSlots;
+
+    @BeforeEach
+    void beforeEach() {
+        owner = userService.create(new UserInputDto(null, "owner", "owner" + System.nanoTime() + "@mail.ru"));
+        booker = userService.create(new UserInputDto(null, "booker", "booker" + System.nanoTime() + "@mail.ru"));
+        item = itemService.create(owner.getId(), new ItemInputDto(null, "calendar", "calendar", true, null));
+        bookedSlots = cacheManager.getCache(BookingCalendar.BOOKED_SLOTS_CACHE);
+    }
+
+    @Test
+    void approve_evictAfterCommit_cachedCalendar() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        BookingFullDto booking = bookingService.create(booker.getId(),
+                new BookingInputDto(start, start.plusDays(1), item.getId()));
+        assertThat(bookingCalendar.getBookedSlots(item.getId())).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.approve(owner.getId(), booking.getId(), true);
+            assertThat(bookedSlots.get(item.getId())).isNotNull();
+        });
+
+        assertThat(bookedSlots.get(item.getId())).isNull();
+        assertThat(bookingCalendar.getBookedSlots(item.getId()))
+                .containsExactly(new SlotDto(start, start.plusDays(1)));
+    }
+
+    @Test
+    void createAndReject_keepCachedCalendar_cachedCalendar() {
+        assertThat(bookingCalendar.getBookedSlots(item.getId())).isEmpty();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+        BookingFullDto booking = bookingService.create(booker.getId(),
+                new BookingInputDto(start, start.plusDays(1), item.getId()));
+        bookingService.approve(owner.getId(), booking.getId(), false);
+
+        assertThat(bookedSlots.get(item.getId())).isNotNull();
+    }
+
+    @Test
+    void bookedSlotsCache_expireAfter30Seconds() {
+        assertThat(((CaffeineCache) bookedSlots).getNativeCache().policy().expireAfterWrite().orElseThrow()
+                .getExpiresAfter()).isEqualTo(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dto.SlotDto;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCalendarTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+    private BookingCalendar bookingCalendar;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void beforeEach() {
+        Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        now = LocalDateTime.now(clock);
+        bookingCalendar = new BookingCalendar(bookingRepository, clock);
+    }
+
+    @Test
+    void getBookedSlots_mergeOverlappingAndAdjacent_added4Bookings() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        when(bookingRepository.findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(1L, Status.APPROVED, now))
+                .thenReturn(List.of(
+                        booking(start, start.plusDays(2)),
+                        booking(start.plusDays(1), start.plusDays(2)),
+                        booking(start.plusDays(2), start.plusDays(3)),
+                        booking(start.plusDays(5), start.plusDays(6))));
+
+        assertThat(bookingCalendar.getBookedSlots(1L)).containsExactly(
+                new SlotDto(start, start.plusDays(3)),
+                new SlotDto(start.plusDays(5), start.plusDays(6)));
+    }
+
+    @Test
+    void getBookedSlots_returnEmpty_noBookings() {
+        when(bookingRepository.findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(1L, Status.APPROVED, now))
+                .thenReturn(List.of());
+
+        assertThat(bookingCalendar.getBookedSlots(1L)).isEmpty();
+    }
+
+    private static Booking booking(LocalDateTime start, LocalDateTime end) {
+        Booking booking = new Booking();
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setStatus(Status.APPROVED);
+        return booking;
+    }
+}
@@ -7,8 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
 import ru.practicum.shareit.booking.dto.BookingFullDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.item.dto.ItemShortDto;
@@ -21,6 +24,7 @@ import java.util.List;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -149,8 +153,8 @@ public class BookingControllerTest {
     @SneakyThrows
     @Test
     void getByBookerId_return2Booking_added2Booking() {
-        when(bookingServiceMock.getByBookerId(1L, "ALL", 1, 20))
-                .thenReturn(List.of(bookingFullDto1, bookingFullDto2));
+        when(bookingServiceMock.getByBookerId(1L, "ALL", null, null, 1, 20))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1, bookingFullDto2)));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
@@ -159,6 +163,7 @@ public class BookingControllerTest {
                         .param("size", "20")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(BookingController.HAS_NEXT_HEADER, "false"))
                 .andExpect(jsonPath("$[0].id").value(bookingFullDto1.getId()))
                 .andExpect(jsonPath("$[0].start").value(bookingFullDto1.getStart()
                         .truncatedTo(ChronoUnit.SECONDS).toString()))
@@ -190,15 +195,15 @@ public class BookingControllerTest {
 
                 .andExpect(jsonPath("$[1].booker.id").value(bookingFullDto2.getBooker().getId()))
                 .andExpect(jsonPath("$[1].booker.name").value(bookingFullDto2.getBooker().getName()));
-        verify(bookingServiceMock).getByBookerId(1L, "ALL", 1, 20);
+        verify(bookingServiceMock).getByBookerId(1L, "ALL", null, null, 1, 20);
     }
 
 
     @SneakyThrows
     @Test
     void getByOwnerId_return2Booking_added2Booking() {
-        when(bookingServiceMock.getByOwnerId(1L, "ALL", 1, 20))
-                .thenReturn(List.of(bookingFullDto1, bookingFullDto2));
+        when(bookingServiceMock.getByOwnerId(1L, "ALL", null, null, 1, 20))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1, bookingFullDto2)));
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 1L)
@@ -238,6 +243,81 @@ public class BookingControllerTest {
 
                 .andExpect(jsonPath("$[1].booker.id").value(bookingFullDto2.getBooker().getId()))
                 .andExpect(jsonPath("$[1].booker.name").value(bookingFullDto2.getBooker().getName()));
-        verify(bookingServiceMock).getByOwnerId(1L, "ALL", 1, 20);
+        verify(bookingServiceMock).getByOwnerId(1L, "ALL", null, null, 1, 20);
+    }
+
+    @SneakyThrows
+    @Test
+    void getByOwnerId_returnNextCursor_seekPageHasNext() {
+        when(bookingServiceMock.getByOwnerIdAfterCursor(1L, "ALL", null, null, "", 2))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1, bookingFullDto2), PageRequest.of(0, 2), true));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "ALL")
+                        .param("size", "2")
+                        .param("cursor", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(bookingFullDto1.getId()))
+                .andExpect(jsonPath("$[1].id").value(bookingFullDto2.getId()))
+                .andExpect(header().string(BookingController.HAS_NEXT_HEADER, "true"))
+                .andExpect(header().string(BookingController.NEXT_CURSOR_HEADER,
+                        BookingCursor.encode(bookingFullDto2)));
+        verify(bookingServiceMock).getByOwnerIdAfterCursor(1L, "ALL", null, null, "", 2);
+    }
+
+    @SneakyThrows
+    @Test
+    void getByBookerId_returnNoCursor_fullLastSeekPage() {
+        when(bookingServiceMock.getByBookerIdAfterCursor(1L, "ALL", null, null, "", 2))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1, bookingFullDto2), PageRequest.of(0, 2), false));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "ALL")
+                        .param("size", "2")
+                        .param("cursor", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].id").value(bookingFullDto2.getId()))
+                .andExpect(header().string(BookingController.HAS_NEXT_HEADER, "false"))
+                .andExpect(header().doesNotExist(BookingController.NEXT_CURSOR_HEADER));
+    }
+
+    @SneakyThrows
+    @Test
+    void getByOwnerId_passFilters_statusAndItemId() {
+        when(bookingServiceMock.getByOwnerId(1L, "FUTURE", Status.WAITING, 2L, 0, 20))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "FUTURE")
+                        .param("status", "WAITING")
+                        .param("itemId", "2")
+                        .param("from", "0")
+                        .param("size", "20")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(bookingFullDto1.getId()));
+        verify(bookingServiceMock).getByOwnerId(1L, "FUTURE", Status.WAITING, 2L, 0, 20);
+    }
+
+    @SneakyThrows
+    @Test
+    void getCountsByOwnerId_returnCounts_added4Bookings() {
+        when(bookingServiceMock.getCountsByOwnerId(1L)).thenReturn(new BookingCountDto(4L, 0L, 1L, 3L, 1L, 1L));
+
+        mockMvc.perform(get("/bookings/owner/counts")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.all").value(4))
+                .andExpect(jsonPath("$.current").value(0))
+                .andExpect(jsonPath("$.past").value(1))
+                .andExpect(jsonPath("$.future").value(3))
+                .andExpect(jsonPath("$.waiting").value(1))
+                .andExpect(jsonPath("$.rejected").value(1));
+        verify(bookingServiceMock).getCountsByOwnerId(1L);
     }
 }
@@ -1,13 +1,22 @@
 package ru.practicum.shareit.booking;
 
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
+import ru.practicum.shareit.booking.dto.BookingFullDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.config.SqlStatementRecorder;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.user.User;
@@ -15,12 +24,17 @@ import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.data.jpa.domain.Specification.where;
+import static ru.practicum.shareit.booking.BookingSpecifications.*;
 
 @DataJpaTest
 @AutoConfigureTestDatabase
+@Import(SqlStatementRecorder.class)
 class BookingRepositoryTest {
 
     @Autowired
@@ -29,6 +43,10 @@ class BookingRepositoryTest {
     private UserRepository userRepository;
     @Autowired
     private BookingRepository bookingRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
 
     private User userFromDb1;
     private User userFromDb2;
@@ -112,190 +130,366 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findAllByBookerId_return1BookingByUser1_added5Bookings() {
-        assertEquals(List.of(bookingFromDb), bookingRepository.findAllByBookerId(userFromDb1.getId(), pageable));
-        assertEquals(1, bookingRepository.findAllByBookerId(userFromDb1.getId(), pageable).size());
+    void findAllAsFullDto_return1BookingByUser1_bookerSpec() {
+        assertEquals(toDto(bookingFromDb), bookingRepository.findAllAsFullDto(byBooker(userFromDb1.getId()), pageable).getContent());
+        assertEquals(1, bookingRepository.findAllAsFullDto(byBooker(userFromDb1.getId()), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerId_return4BookingsByUser2_added5Bookings() {
-        assertEquals(List.of(nextFromDb, waitingFromDb, rejectedFromDb, lastFromDb),
-                bookingRepository.findAllByBookerId(userFromDb2.getId(), pageable));
-        assertEquals(4, bookingRepository.findAllByBookerId(userFromDb2.getId(), pageable).size());
+    void findAllAsFullDto_return4BookingsByUser2_bookerSpec() {
+        assertEquals(toDto(nextFromDb, waitingFromDb, rejectedFromDb, lastFromDb),
+                bookingRepository.findAllAsFullDto(byBooker(userFromDb2.getId()), pageable).getContent());
+        assertEquals(4, bookingRepository.findAllAsFullDto(byBooker(userFromDb2.getId()), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerId_returnEmptyByUnknownUser_added5Bookings() {
-        assertEquals(List.of(), bookingRepository.findAllByBookerId(999L, pageable));
-        assertEquals(0, bookingRepository.findAllByBookerId(999L, pageable).size());
+    void findAllAsFullDto_returnHasNext_bookerSpec() {
+        Slice<BookingFullDto> first = bookingRepository.findAllAsFullDto(byBooker(userFromDb2.getId()),
+                PageRequest.of(0, 3, Sort.by("start").descending()));
+        Slice<BookingFullDto> last = bookingRepository.findAllAsFullDto(byBooker(userFromDb2.getId()),
+                PageRequest.of(1, 3, Sort.by("start").descending()));
+
+        assertEquals(toDto(nextFromDb, waitingFromDb, rejectedFromDb), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(toDto(lastFromDb), last.getContent());
+        assertFalse(last.hasNext());
     }
 
     @Test
-    void findAllByBookerIdAndStateCurrent_return1BookingByUser1_added5Bookings() {
-        assertEquals(List.of(bookingFromDb),
-                bookingRepository.findAllByBookerIdAndStateCurrent(userFromDb1.getId(), pageable));
+    void findAllAsFullDto_returnEmptyByUnknownUser_bookerSpec() {
+        assertEquals(List.of(), bookingRepository.findAllAsFullDto(byBooker(999L), pageable).getContent());
+        assertEquals(0, bookingRepository.findAllAsFullDto(byBooker(999L), pageable).getContent().size());
+    }
+
+    @Test
+    void findAllAsFullDto_return1BookingByUser1_bookerCurrentSpec() {
+        assertEquals(toDto(bookingFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb1.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByBookerIdAndStateCurrent(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb1.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerIdAndStateCurrent_returnEmptyByWrongUser_added5Bookings() {
+    void findAllAsFullDto_returnEmptyByWrongUser_bookerCurrentSpec() {
         assertEquals(List.of(),
-                bookingRepository.findAllByBookerIdAndStateCurrent(userFromDb2.getId(), pageable));
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent());
         assertEquals(0,
-                bookingRepository.findAllByBookerIdAndStateCurrent(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent().size());
     }
 
 
     @Test
-    void findAllByBookerIdAndStatePast_return1BookingByUser2_added5Bookings() {
-        assertEquals(List.of(lastFromDb),
-                bookingRepository.findAllByBookerIdAndStatePast(userFromDb2.getId(), pageable));
+    void findAllAsFullDto_return1BookingByUser2_bookerPastSpec() {
+        assertEquals(toDto(lastFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByBookerIdAndStatePast(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerIdAndStatePast_returnEmptyByWrongUser_added5Bookings() {
+    void findAllAsFullDto_returnEmptyByWrongUser_bookerPastSpec() {
         assertEquals(List.of(),
-                bookingRepository.findAllByBookerIdAndStatePast(userFromDb1.getId(), pageable));
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb1.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent());
         assertEquals(0,
-                bookingRepository.findAllByBookerIdAndStatePast(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb1.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent().size());
     }
 
 
     @Test
-    void findAllByBookerIdAndStateFuture_return3BookingByUser2_added5Bookings() {
-        assertEquals(List.of(nextFromDb, waitingFromDb, rejectedFromDb),
-                bookingRepository.findAllByBookerIdAndStateFuture(userFromDb2.getId(), pageable));
+    void findAllAsFullDto_return3BookingByUser2_bookerFutureSpec() {
+        assertEquals(toDto(nextFromDb, waitingFromDb, rejectedFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent());
         assertEquals(3,
-                bookingRepository.findAllByBookerIdAndStateFuture(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerIdAndStateFuture_returnEmptyByWrongUser_added5Bookings() {
+    void findAllAsFullDto_returnEmptyByWrongUser_bookerFutureSpec() {
         assertEquals(List.of(),
-                bookingRepository.findAllByBookerIdAndStateFuture(userFromDb1.getId(), pageable));
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb1.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent());
         assertEquals(0,
-                bookingRepository.findAllByBookerIdAndStateFuture(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb1.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerIdAndStatus_return1WaitingBookingByUser2_added5Bookings() {
-        assertEquals(List.of(waitingFromDb),
-                bookingRepository.findAllByBookerIdAndStatus(userFromDb2.getId(), Status.WAITING, pageable));
+    void findAllAsFullDto_return1WaitingBookingByUser2_bookerStatusSpec() {
+        assertEquals(toDto(waitingFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(withStatus(Status.WAITING)), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByBookerIdAndStatus(userFromDb2.getId(), Status.WAITING, pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(withStatus(Status.WAITING)), pageable).getContent().size());
     }
 
     @Test
-    void findAllByBookerIdAndStatus_return1RejectedBookingByUser2_added5Bookings() {
-        assertEquals(List.of(rejectedFromDb),
-                bookingRepository.findAllByBookerIdAndStatus(userFromDb2.getId(), Status.REJECTED, pageable));
+    void findAllAsFullDto_return1RejectedBookingByUser2_bookerStatusSpec() {
+        assertEquals(toDto(rejectedFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(withStatus(Status.REJECTED)), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByBookerIdAndStatus(userFromDb2.getId(), Status.REJECTED, pageable).size());
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(withStatus(Status.REJECTED)), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerId_return1BookingByUser2_added5Bookings() {
-        assertEquals(List.of(bookingFromDb),
-                bookingRepository.findAllByOwnerId(userFromDb2.getId(), pageable));
+    void findAllAsFullDto_return1BookingByUser2_ownerSpec() {
+        assertEquals(toDto(bookingFromDb),
+                bookingRepository.findAllAsFullDto(byOwner(userFromDb2.getId()), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByOwnerId(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(byOwner(userFromDb2.getId()), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerId_return4BookingByUser1_added5Bookings() {
-        assertEquals(List.of(nextFromDb, waitingFromDb, rejectedFromDb, lastFromDb),
-                bookingRepository.findAllByOwnerId(userFromDb1.getId(), pageable));
+    void findAllAsFullDto_return4BookingByUser1_ownerSpec() {
+        assertEquals(toDto(nextFromDb, waitingFromDb, rejectedFromDb, lastFromDb),
+                bookingRepository.findAllAsFullDto(byOwner(userFromDb1.getId()), pageable).getContent());
         assertEquals(4,
-                bookingRepository.findAllByOwnerId(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(byOwner(userFromDb1.getId()), pageable).getContent().size());
+    }
+
+    @Test
+    void findAllAsFullDto_notManageEntities_ownerSpec() {
+        entityManager.clear();
+
+        List<BookingFullDto> bookings = bookingRepository.findAllAsFullDto(byOwner(userFromDb1.getId()), pageable).getContent();
+
+        assertEquals(4, bookings.size());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findById_fetchItemAndBookerOnly_clearedContext() {
+        entityManager.clear();
+
+        Booking booking = bookingRepository.findById(bookingFromDb.getId()).orElseThrow();
+
+        assertTrue(Hibernate.isInitialized(booking.getItem()));
+        assertTrue(Hibernate.isInitialized(booking.getBooker()));
+        assertFalse(Hibernate.isInitialized(booking.getItem().getOwner()));
     }
 
     @Test
-    void findAllByOwnerId_returnEmptyByUnknownUser_added5Bookings() {
-        assertEquals(List.of(), bookingRepository.findAllByOwnerId(999L, pageable));
-        assertEquals(0, bookingRepository.findAllByOwnerId(999L, pageable).size());
+    void toStringAndHashCode_keepAssociationsLazy_clearedContext() {
+        entityManager.clear();
+
+        Booking booking = bookingRepository.findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(
+                itemFromDb1.getId(), Status.APPROVED, LocalDateTime.now()).get(0);
+        booking.toString();
+        booking.hashCode();
+
+        assertFalse(Hibernate.isInitialized(booking.getItem()));
+        assertFalse(Hibernate.isInitialized(booking.getBooker()));
     }
 
     @Test
-    void findAllByOwnerIdAndStateCurrent_returnEmptyByUser1_added5Bookings() {
+    void findAllAsFullDto_returnEmptyByUnknownUser_ownerSpec() {
+        assertEquals(List.of(), bookingRepository.findAllAsFullDto(byOwner(999L), pageable).getContent());
+        assertEquals(0, bookingRepository.findAllAsFullDto(byOwner(999L), pageable).getContent().size());
+    }
+
+    @Test
+    void findAllAsFullDto_returnEmptyByUser1_ownerCurrentSpec() {
         assertEquals(List.of(),
-                bookingRepository.findAllByOwnerIdAndStateCurrent(userFromDb1.getId(), pageable));
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent());
         assertEquals(0,
-                bookingRepository.findAllByOwnerIdAndStateCurrent(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStateCurrent_return1BookingByUser2_added5Bookings() {
-        assertEquals(List.of(bookingFromDb),
-                bookingRepository.findAllByOwnerIdAndStateCurrent(userFromDb2.getId(), pageable));
+    void findAllAsFullDto_return1BookingByUser2_ownerCurrentSpec() {
+        assertEquals(toDto(bookingFromDb),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb2.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByOwnerIdAndStateCurrent(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb2.getId()))
+                        .and(inState(State.CURRENT, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStatePast_return1BookingByUser1_added5Bookings() {
-        assertEquals(List.of(lastFromDb),
-                bookingRepository.findAllByOwnerIdAndStatePast(userFromDb1.getId(), pageable));
+    void findAllAsFullDto_return1BookingByUser1_ownerPastSpec() {
+        assertEquals(toDto(lastFromDb),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByOwnerIdAndStatePast(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStatePast_returnEmptyByUser2_added5Bookings() {
+    void findAllAsFullDto_returnEmptyByUser2_ownerPastSpec() {
         assertEquals(List.of(),
-                bookingRepository.findAllByOwnerIdAndStatePast(userFromDb2.getId(), pageable));
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb2.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent());
         assertEquals(0,
-                bookingRepository.findAllByOwnerIdAndStatePast(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb2.getId()))
+                        .and(inState(State.PAST, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStateFuture_return1BookingByUser1_added5Bookings() {
-        assertEquals(List.of(nextFromDb, waitingFromDb, rejectedFromDb),
-                bookingRepository.findAllByOwnerIdAndStateFuture(userFromDb1.getId(), pageable));
+    void findAllAsFullDto_return1BookingByUser1_ownerFutureSpec() {
+        assertEquals(toDto(nextFromDb, waitingFromDb, rejectedFromDb),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent());
         assertEquals(3,
-                bookingRepository.findAllByOwnerIdAndStateFuture(userFromDb1.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStateFuture_returnEmptyByUser2_added5Bookings() {
+    void findAllAsFullDto_returnEmptyByUser2_ownerFutureSpec() {
         assertEquals(List.of(),
-                bookingRepository.findAllByOwnerIdAndStateFuture(userFromDb2.getId(), pageable));
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb2.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent());
         assertEquals(0,
-                bookingRepository.findAllByOwnerIdAndStateFuture(userFromDb2.getId(), pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb2.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now())), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStatus_return1WaitingBookingByUser1_added5Bookings() {
-        assertEquals(List.of(waitingFromDb),
-                bookingRepository.findAllByOwnerIdAndStatus(userFromDb1.getId(), Status.WAITING, pageable));
+    void findAllAsFullDto_return1WaitingBookingByUser1_ownerStatusSpec() {
+        assertEquals(toDto(waitingFromDb),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.WAITING)), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByOwnerIdAndStatus(userFromDb1.getId(), Status.WAITING, pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.WAITING)), pageable).getContent().size());
     }
 
     @Test
-    void findAllByOwnerIdAndStatus_return1RejectedBookingByUser1_added5Bookings() {
-        assertEquals(List.of(rejectedFromDb),
-                bookingRepository.findAllByOwnerIdAndStatus(userFromDb1.getId(), Status.REJECTED, pageable));
+    void findAllAsFullDto_return1RejectedBookingByUser1_ownerStatusSpec() {
+        assertEquals(toDto(rejectedFromDb),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.REJECTED)), pageable).getContent());
         assertEquals(1,
-                bookingRepository.findAllByOwnerIdAndStatus(userFromDb1.getId(), Status.REJECTED, pageable).size());
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.REJECTED)), pageable).getContent().size());
+    }
+
+    @Test
+    void findAllAsFullDto_return2PagesByUser2_bookerAfterCursorSpec() {
+        Pageable seekPage = PageRequest.of(0, 2, Sort.by("start").descending().and(Sort.by("id").descending()));
+
+        assertEquals(toDto(rejectedFromDb, waitingFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(afterCursor(BookingCursor.FIRST)), seekPage)
+                        .getContent());
+        assertEquals(toDto(nextFromDb, lastFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId())).and(afterCursor(
+                        new BookingCursor(waitingFromDb.getStart(), waitingFromDb.getId()))), seekPage).getContent());
+    }
+
+    @Test
+    void findAllAsFullDto_returnEmptyAfterLast_ownerStatusAfterCursorSpec() {
+        Pageable seekPage = PageRequest.of(0, 2, Sort.by("start").descending().and(Sort.by("id").descending()));
+
+        assertEquals(toDto(waitingFromDb),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.WAITING)).and(afterCursor(BookingCursor.FIRST)), seekPage)
+                        .getContent());
+        assertEquals(List.of(),
+                bookingRepository.findAllAsFullDto(where(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.WAITING)).and(afterCursor(
+                        new BookingCursor(waitingFromDb.getStart(), waitingFromDb.getId()))), seekPage).getContent());
     }
 
     @Test
-    void findFirstByItemIdAndStartBeforeAndStatusOrderByEndDesc_return1LastBookingByUser1_added5Bookings() {
-        assertEquals(lastFromDb, bookingRepository
-                .findFirstByItemIdAndStartBeforeAndStatusOrderByEndDesc(itemFromDb1.getId(),
+    void findAllAsFullDto_return1FutureWaitingBooking_combinedSpec() {
+        assertEquals(toDto(waitingFromDb),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(inState(State.FUTURE, LocalDateTime.now()))
+                        .and(withStatus(Status.WAITING))
+                        .and(ofItem(waitingFromDb.getItem().getId())), pageable).getContent());
+        assertEquals(List.of(),
+                bookingRepository.findAllAsFullDto(where(byBooker(userFromDb2.getId()))
+                        .and(withStatus(Status.WAITING))
+                        .and(ofItem(999L)), pageable).getContent());
+    }
+
+    @Test
+    void findAllAsFullDto_bindFilterValues_combinedSpec() {
+        entityManager.flush();
+        List<String> statements = sqlStatementRecorder.record(() -> bookingRepository.findAllAsFullDto(
+                where(byBooker(userFromDb2.getId()))
+                        .and(byOwner(userFromDb1.getId()))
+                        .and(withStatus(Status.WAITING))
+                        .and(ofItem(itemFromDb1.getId())), pageable));
+
+        assertEquals(1, statements.size());
+        String sql = statements.get(0).toLowerCase();
+        assertTrue(sql.matches("(?s).*\\.booker_id\\s*=\\s*\\?.*"), sql);
+        assertTrue(sql.matches("(?s).*\\.owner_id\\s*=\\s*\\?.*"), sql);
+        assertTrue(sql.matches("(?s).*\\.item_id\\s*=\\s*\\?.*"), sql);
+        assertTrue(sql.matches("(?s).*\\.status\\s*=\\s*\\?.*"), sql);
+        assertFalse(sql.matches("(?s).*_id\\s*=\\s*\\d.*"), sql);
+    }
+
+    @Test
+    void existsOverlapping_returnTrue_overlapWaitingAndApproved() {
+        assertTrue(bookingRepository.existsOverlapping(itemFromDb1.getId(),
+                nextFromDb.getStart().plusHours(1), nextFromDb.getEnd().plusDays(1)));
+        assertTrue(bookingRepository.existsOverlapping(itemFromDb1.getId(),
+                lastFromDb.getStart().minusDays(1), lastFromDb.getStart().plusHours(1)));
+        assertFalse(bookingRepository.existsOverlapping(itemFromDb1.getId(),
+                lastFromDb.getEnd(), nextFromDb.getStart()));
+        assertFalse(bookingRepository.existsOverlapping(itemFromDb2.getId(),
+                nextFromDb.getStart(), nextFromDb.getEnd()));
+    }
+
+    @Test
+    void existsOverlapping_returnTrue_earlierBookingEndsLater() {
+        Booking outer = new Booking();
+        outer.setItem(itemFromDb2);
+        outer.setBooker(userFromDb1);
+        outer.setStart(LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.SECONDS));
+        outer.setEnd(LocalDateTime.now().plusDays(20).truncatedTo(ChronoUnit.SECONDS));
+        outer.setStatus(Status.APPROVED);
+        bookingRepository.save(outer);
+        Booking inner = new Booking();
+        inner.setItem(itemFromDb2);
+        inner.setBooker(userFromDb1);
+        inner.setStart(LocalDateTime.now().plusDays(12).truncatedTo(ChronoUnit.SECONDS));
+        inner.setEnd(LocalDateTime.now().plusDays(13).truncatedTo(ChronoUnit.SECONDS));
+        inner.setStatus(Status.APPROVED);
+        bookingRepository.save(inner);
+
+        assertTrue(bookingRepository.existsOverlapping(itemFromDb2.getId(),
+                inner.getEnd().plusDays(1), inner.getEnd().plusDays(2)));
+    }
+
+    @Test
+    void findAllByItemIdAndStatusAndEndAfterOrderByStartAsc_returnNotFinished_added5Bookings() {
+        assertEquals(List.of(nextFromDb), bookingRepository.findAllByItemIdAndStatusAndEndAfterOrderByStartAsc(
+                itemFromDb1.getId(), Status.APPROVED, LocalDateTime.now()));
+    }
+
+    @Test
+    void findLastByItemIdIn_return2LastBookings_added5Bookings() {
+        assertEquals(List.of(lastFromDb, bookingFromDb), bookingRepository
+                .findLastByItemIdIn(List.of(itemFromDb1.getId(), itemFromDb2.getId()),
                         LocalDateTime.now(),
-                        Status.APPROVED).get());
+                        Status.APPROVED));
     }
 
     @Test
-    void findFirstByItemIdAndStartAfterAndStatusOrderByEndAsc_return1NextBookingByUser1_added5Bookings() {
-        assertEquals(nextFromDb, bookingRepository
-                .findFirstByItemIdAndStartAfterAndStatusOrderByEndAsc(itemFromDb1.getId(),
+    void findNextByItemIdIn_return1NextBookingByItem1_added5Bookings() {
+        assertEquals(List.of(nextFromDb), bookingRepository
+                .findNextByItemIdIn(List.of(itemFromDb1.getId(), itemFromDb2.getId()),
                         LocalDateTime.now(),
-                        Status.APPROVED).get());
+                        Status.APPROVED));
     }
 
     @Test
@@ -311,4 +505,34 @@ class BookingRepositoryTest {
                 itemFromDb2.getId(),
                 LocalDateTime.now()));
     }
-}
\ No newline at end of file
+
+    private static List<BookingFullDto> toDto(Booking... bookings) {
+        return Arrays.stream(bookings)
+                .map(BookingMapper::mapToFullDto)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void countByOwnerId_returnCountsByState_added5Bookings() {
+        assertEquals(new BookingCountDto(4L, 0L, 1L, 3L, 1L, 1L),
+                bookingRepository.countByOwnerId(userFromDb1.getId(), LocalDateTime.now()));
+        assertEquals(new BookingCountDto(1L, 1L, 0L, 0L, 0L, 0L),
+                bookingRepository.countByOwnerId(userFromDb2.getId(), LocalDateTime.now()));
+    }
+
+    @Test
+    void countByOwnerId_countRows_ownerBookings() {
+        List<String> statements = sqlStatementRecorder.record(
+                () -> bookingRepository.countByOwnerId(userFromDb1.getId(), LocalDateTime.now()));
+
+        assertEquals(1, statements.size());
+        String sql = statements.get(0).toLowerCase();
+        assertTrue(sql.startsWith("select count(*)"), sql);
+    }
+
+    @Test
+    void countByOwnerId_returnZeros_unknownOwner() {
+        assertEquals(new BookingCountDto(0L, 0L, 0L, 0L, 0L, 0L),
+                bookingRepository.countByOwnerId(999L, LocalDateTime.now()));
+    }
+}
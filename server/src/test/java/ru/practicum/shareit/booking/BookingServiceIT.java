@@ -16,9 +16,11 @@ import ru.practicum.shareit.user.dto.UserFullDto;
 import ru.practicum.shareit.user.dto.UserInputDto;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
 @SpringBootTest
@@ -58,20 +60,21 @@ class BookingServiceIT {
         itemFullDto1.setComments(new ArrayList<>());
         itemFullDto2.setComments(new ArrayList<>());
 
-        LocalDateTime currentStart = LocalDateTime.now().minusDays(1);
-        LocalDateTime currentEnd = LocalDateTime.now().plusDays(2);
+        LocalDateTime currentStart = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime currentEnd = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.SECONDS);
         BookingInputDto currentBookingInputDto = new BookingInputDto(currentStart, currentEnd, itemFullDto2.getId());
 
-        LocalDateTime pastStart = LocalDateTime.now().minusDays(3);
-        LocalDateTime pastEnd = LocalDateTime.now().minusDays(1);
+        LocalDateTime pastStart = LocalDateTime.now().minusDays(3).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime pastEnd = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
         BookingInputDto pastBookingInputDto = new BookingInputDto(pastStart, pastEnd, itemFullDto2.getId());
 
-        LocalDateTime futureStart = LocalDateTime.now().plusDays(1);
-        LocalDateTime futureEnd = LocalDateTime.now().plusDays(3);
+        LocalDateTime futureStart = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime futureEnd = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.SECONDS);
         BookingInputDto futureBookingInputDto = new BookingInputDto(futureStart, futureEnd, itemFullDto2.getId());
 
         BookingInputDto waitingBookingInputDto = new BookingInputDto(futureStart, futureEnd, itemFullDto1.getId());
-        BookingInputDto rejectedBookingInputDto = new BookingInputDto(futureStart, futureEnd, itemFullDto1.getId());
+        BookingInputDto rejectedBookingInputDto = new BookingInputDto(currentEnd.minusDays(1), currentEnd,
+                itemFullDto1.getId());
 
         currentBookingFullDto = bookingService.create(userFullDto1.getId(), currentBookingInputDto);
         pastBookingFullDto = bookingService.create(userFullDto1.getId(), pastBookingInputDto);
@@ -83,68 +86,88 @@ class BookingServiceIT {
 
     @Test
     void create_findBooking_added6Bookings() {
-        LocalDateTime start = LocalDateTime.now().minusDays(1);
-        LocalDateTime end = LocalDateTime.now().plusDays(2);
+        LocalDateTime start = LocalDateTime.now().plusDays(4).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = LocalDateTime.now().plusDays(5).truncatedTo(ChronoUnit.SECONDS);
         BookingInputDto bookingInputDto = new BookingInputDto(start, end, itemFullDto2.getId());
 
         BookingFullDto bookingFullDto = bookingService.create(userFullDto1.getId(), bookingInputDto);
 
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "ALL", 0, 20)).asList()
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "ALL", null, null, 0, 20).getContent()).asList()
+                .contains(bookingFullDto);
+    }
+
+    @Test
+    void create_throwIllegalStateException_overlappingBooking() {
+        BookingInputDto bookingInputDto = new BookingInputDto(currentBookingFullDto.getStart().plusHours(1),
+                currentBookingFullDto.getEnd().plusDays(5), itemFullDto2.getId());
+
+        assertThrows(IllegalStateException.class, () -> bookingService.create(userFullDto1.getId(), bookingInputDto));
+    }
+
+    @Test
+    void create_findBooking_overlapRejectedBooking() {
+        bookingService.approve(userFullDto2.getId(), currentBookingFullDto.getId(), false);
+        BookingInputDto bookingInputDto = new BookingInputDto(currentBookingFullDto.getStart(),
+                currentBookingFullDto.getEnd(), itemFullDto2.getId());
+
+        BookingFullDto bookingFullDto = bookingService.create(userFullDto1.getId(), bookingInputDto);
+
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "ALL", null, null, 0, 20).getContent()).asList()
                 .contains(bookingFullDto);
     }
 
 
     @Test
     void getByBookerId_returnBookings_added5Booking() {
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "ALL", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "ALL", null, null, 0, 20).getContent())
                 .asList().containsExactly(futureBookingFullDto, currentBookingFullDto, pastBookingFullDto);
 
-        assertThat(bookingService.getByBookerId(userFullDto2.getId(), "ALL", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto2.getId(), "ALL", null, null, 0, 20).getContent())
                 .asList().containsExactly(waitingBookingFullDto, rejectedBookingFullDto);
 
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "CURRENT", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "CURRENT", null, null, 0, 20).getContent())
                 .asList().containsExactly(currentBookingFullDto);
 
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "FUTURE", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "FUTURE", null, null, 0, 20).getContent())
                 .asList().containsExactly(futureBookingFullDto);
 
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "PAST", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "PAST", null, null, 0, 20).getContent())
                 .asList().containsExactly(pastBookingFullDto);
 
         bookingService.approve(userFullDto2.getId(), futureBookingFullDto.getId(), true);
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "WAITING", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "WAITING", null, null, 0, 20).getContent())
                 .asList().containsExactly(currentBookingFullDto, pastBookingFullDto);
 
         bookingService.approve(userFullDto2.getId(), pastBookingFullDto.getId(), false);
         pastBookingFullDto.setStatus(Status.REJECTED);
-        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "REJECTED", 0, 20))
+        assertThat(bookingService.getByBookerId(userFullDto1.getId(), "REJECTED", null, null, 0, 20).getContent())
                 .asList().containsExactly(pastBookingFullDto);
     }
 
     @Test
     void getByOwnerId_returnBookings_added5Booking() {
-        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "ALL", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "ALL", null, null, 0, 20).getContent())
                 .asList().containsExactly(futureBookingFullDto, currentBookingFullDto, pastBookingFullDto);
 
-        assertThat(bookingService.getByOwnerId(userFullDto1.getId(), "ALL", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto1.getId(), "ALL", null, null, 0, 20).getContent())
                 .asList().containsExactly(waitingBookingFullDto, rejectedBookingFullDto);
 
-        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "CURRENT", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "CURRENT", null, null, 0, 20).getContent())
                 .asList().containsExactly(currentBookingFullDto);
 
-        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "FUTURE", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "FUTURE", null, null, 0, 20).getContent())
                 .asList().containsExactly(futureBookingFullDto);
 
-        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "PAST", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "PAST", null, null, 0, 20).getContent())
                 .asList().containsExactly(pastBookingFullDto);
 
         bookingService.approve(userFullDto2.getId(), futureBookingFullDto.getId(), true);
-        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "WAITING", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "WAITING", null, null, 0, 20).getContent())
                 .asList().containsExactly(currentBookingFullDto, pastBookingFullDto);
 
         bookingService.approve(userFullDto2.getId(), pastBookingFullDto.getId(), false);
         pastBookingFullDto.setStatus(Status.REJECTED);
-        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "REJECTED", 0, 20))
+        assertThat(bookingService.getByOwnerId(userFullDto2.getId(), "REJECTED", null, null, 0, 20).getContent())
                 .asList().containsExactly(pastBookingFullDto);
     }
 
@@ -166,4 +189,4 @@ class BookingServiceIT {
         assertThat(bookingService.approve(userFullDto2.getId(), futureBookingFullDto.getId(), false))
                 .hasFieldOrPropertyWithValue("status", Status.REJECTED);
     }
-}
\ No newline at end of file
+}
@@ -3,12 +3,14 @@ package ru.practicum.shareit.booking;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.BookingCountDto;
 import ru.practicum.shareit.booking.dto.BookingFullDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
@@ -18,8 +20,12 @@ import ru.practicum.shareit.item.ItemServiceImpl;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserServiceImpl;
+import ru.practicum.shareit.user.dto.UserMapper;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +33,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +47,11 @@ class BookingServiceTest {
     private UserServiceImpl userService;
     @Mock
     private ItemServiceImpl itemService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks
     private BookingServiceImpl bookingService;
+    private LocalDateTime now;
 
     private Booking booking1;
     private BookingFullDto bookingFullDto1;
@@ -53,6 +64,9 @@ class BookingServiceTest {
 
     @BeforeEach
     void beforeEach() {
+        Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        now = LocalDateTime.now(clock);
+        bookingService = new BookingServiceImpl(bookingRepository, itemService, userService, eventPublisher, clock);
         user1 = new User(1L, "sadsa", "dsads@dsads.ru");
         user2 = new User(2L, "sadsadsa", "dsasdadsds@ddsadssads.ru");
         ItemRequest itemRequest1 = new ItemRequest(1L, "dswads", user1,
@@ -73,179 +87,219 @@ class BookingServiceTest {
     @Test
     void getByBookerId_throwUnknownStateException_wrongState() {
         assertThrows(UnknownStateException.class, () ->
-                bookingService.getByBookerId(1L, "dsad", 1, 20));
+                bookingService.getByBookerId(1L, "dsad", null, null, 1, 20));
     }
 
     @Test
     void getByBookerId_IllegalArgumentException_wrongFromAndSize() {
         assertThrows(IllegalArgumentException.class, () ->
-                bookingService.getByBookerId(1L, "ALL", 0, 0));
+                bookingService.getByBookerId(1L, "ALL", null, null, 0, 0));
     }
 
     @Test
     void getByBookerId_return1Booking_allState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository.findAllByBookerId(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByBookerId(user1.getId(), "ALL", 1, 20)).asList()
+        assertThat(bookingService.getByBookerId(user1.getId(), "ALL", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByBookerId_return1Booking_currentState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByBookerIdAndStateCurrent(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByBookerId(user1.getId(), "CURRENT", 1, 20)).asList()
+        assertThat(bookingService.getByBookerId(user1.getId(), "CURRENT", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByBookerId_return1Booking_pastState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByBookerIdAndStatePast(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByBookerId(user1.getId(), "PAST", 1, 20)).asList()
+        assertThat(bookingService.getByBookerId(user1.getId(), "PAST", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByBookerId_return1Booking_futureState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository.findAllByBookerIdAndStateFuture(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByBookerId(user1.getId(), "FUTURE", 1, 20)).asList()
+        assertThat(bookingService.getByBookerId(user1.getId(), "FUTURE", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByBookerId_return1Booking_waitingState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByBookerIdAndStatus(user1.getId(), Status.WAITING, pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByBookerId(user1.getId(), "WAITING", 1, 20)).asList()
+        assertThat(bookingService.getByBookerId(user1.getId(), "WAITING", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByBookerId_return1Booking_rejectedState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByBookerIdAndStatus(user1.getId(), Status.REJECTED, pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByBookerId(user1.getId(), "REJECTED", 1, 20)).asList()
+        assertThat(bookingService.getByBookerId(user1.getId(), "REJECTED", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByOwnerId_throwUnknownStateException_wrongState() {
         assertThrows(UnknownStateException.class, () ->
-                bookingService.getByOwnerId(1L, "dsad", 1, 20));
+                bookingService.getByOwnerId(1L, "dsad", null, null, 1, 20));
     }
 
     @Test
     void getByOwnerId_IllegalArgumentException_wrongFromAndSize() {
         assertThrows(IllegalArgumentException.class, () ->
-                bookingService.getByOwnerId(1L, "ALL", 0, 0));
+                bookingService.getByOwnerId(1L, "ALL", null, null, 0, 0));
     }
 
 
     @Test
     void getByOwnerId_return1Booking_allState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository.findAllByOwnerId(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByOwnerId(user1.getId(), "ALL", 1, 20)).asList()
+        assertThat(bookingService.getByOwnerId(user1.getId(), "ALL", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByOwnerId_return1Booking_currentState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByOwnerIdAndStateCurrent(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByOwnerId(user1.getId(), "CURRENT", 1, 20)).asList()
+        assertThat(bookingService.getByOwnerId(user1.getId(), "CURRENT", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByOwnerId_return1Booking_pastState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByOwnerIdAndStatePast(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByOwnerId(user1.getId(), "PAST", 1, 20)).asList()
+        assertThat(bookingService.getByOwnerId(user1.getId(), "PAST", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByOwnerId_return1Booking_futureState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository.findAllByOwnerIdAndStateFuture(user1.getId(), pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByOwnerId(user1.getId(), "FUTURE", 1, 20)).asList()
+        assertThat(bookingService.getByOwnerId(user1.getId(), "FUTURE", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByOwnerId_return1Booking_waitingState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByOwnerIdAndStatus(user1.getId(), Status.WAITING, pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByOwnerId(user1.getId(), "WAITING", 1, 20)).asList()
+        assertThat(bookingService.getByOwnerId(user1.getId(), "WAITING", null, null, 1, 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
     @Test
     void getByOwnerId_return1Booking_rejectedState() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(bookingRepository
-                .findAllByOwnerIdAndStatus(user1.getId(), Status.REJECTED, pageable)).thenReturn(List.of(booking1));
+        when(bookingRepository.findAllAsFullDto(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
+
+        assertThat(bookingService.getByOwnerId(user1.getId(), "REJECTED", null, null, 1, 20).getContent()).asList()
+                .contains(bookingFullDto1);
+    }
+
+    @Test
+    void getByBookerIdAfterCursor_return1Booking_firstPage() {
+        Pageable seekPage = PageRequest.of(0, 20, Sort.by("start").descending().and(Sort.by("id").descending()));
+        when(bookingRepository.findAllAsFullDto(any(), eq(seekPage)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
 
-        assertThat(bookingService.getByOwnerId(user1.getId(), "REJECTED", 1, 20)).asList()
+        assertThat(bookingService.getByBookerIdAfterCursor(user1.getId(), "ALL", null, null, "", 20).getContent()).asList()
                 .contains(bookingFullDto1);
     }
 
+    @Test
+    void getByOwnerIdAfterCursor_return1Booking_waitingState() {
+        Pageable seekPage = PageRequest.of(0, 20, Sort.by("start").descending().and(Sort.by("id").descending()));
+        String cursor = BookingCursor.encode(bookingFullDto1);
+        when(bookingRepository.findAllAsFullDto(any(), eq(seekPage)))
+                .thenReturn(new SliceImpl<>(List.of(bookingFullDto1)));
+
+        assertThat(bookingService.getByOwnerIdAfterCursor(user1.getId(), "WAITING", null, null, cursor, 20).getContent())
+                .asList()
+                .contains(bookingFullDto1);
+    }
+
+    @Test
+    void getByOwnerIdAfterCursor_throwIllegalArgumentException_wrongCursor() {
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getByOwnerIdAfterCursor(1L, "ALL", null, null, "dsad", 20));
+    }
+
+    @Test
+    void getCountsByOwnerId_returnCounts_rightOwnerId() {
+        BookingCountDto counts = new BookingCountDto(4L, 0L, 1L, 3L, 1L, 1L);
+        when(bookingRepository.countByOwnerId(user1.getId(), now)).thenReturn(counts);
+
+        assertThat(bookingService.getCountsByOwnerId(user1.getId())).isEqualTo(counts);
+    }
+
     @Test
     void getById_returnBooking_rightBookingId() {
         when(bookingRepository.findById(booking1.getId())).thenReturn(Optional.of(booking1));
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
 
         assertThat(bookingService.getById(user1.getId(), booking1.getId())).isEqualTo(bookingFullDto1);
     }
 
     @Test
     void create_returnBooking_rightBooking() {
-        when(userService.getUserById(user2.getId())).thenReturn(user2);
-        when(itemService.getItemById(item1.getId())).thenReturn(item1);
+        when(userService.getUserById(user2.getId())).thenReturn(UserMapper.mapToSnapshot(user2));
+        when(userService.getReference(user2.getId())).thenReturn(user2);
+        when(itemService.lockItemById(item1.getId())).thenReturn(item1);
         when(bookingRepository.save(any())).thenReturn(booking1);
+        bookingFullDto1.setBooker(UserMapper.mapToShortDto(user2));
 
         assertThat(bookingService.create(user2.getId(), bookingInputDto1)).isEqualTo(bookingFullDto1);
     }
 
+    @Test
+    void create_throwIllegalStateException_overlappingBooking() {
+        when(userService.getUserById(user2.getId())).thenReturn(UserMapper.mapToSnapshot(user2));
+        when(itemService.lockItemById(item1.getId())).thenReturn(item1);
+        when(bookingRepository.existsOverlapping(item1.getId(), bookingInputDto1.getStart(),
+                bookingInputDto1.getEnd())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> bookingService.create(user2.getId(), bookingInputDto1));
+        verify(bookingRepository, never()).save(any());
+    }
+
     @Test
     void approve_returnApproveBooking_waitingBooking() {
         when(bookingRepository.findById(booking1.getId())).thenReturn(Optional.of(booking1));
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
         when(itemService.getItemById(item1.getId())).thenReturn(item1);
         bookingFullDto1.setStatus(Status.APPROVED);
 
         assertThat(bookingService.approve(user1.getId(), booking1.getId(), true)).isEqualTo(bookingFullDto1);
+        verify(eventPublisher).publishEvent(new BookingApprovedEvent(item1.getId()));
     }
 
     @Test
     void approve_returnRejectedBooking_waitingBooking() {
         when(bookingRepository.findById(booking1.getId())).thenReturn(Optional.of(booking1));
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
         when(itemService.getItemById(item1.getId())).thenReturn(item1);
         bookingFullDto1.setStatus(Status.REJECTED);
 
         assertThat(bookingService.approve(user1.getId(), booking1.getId(), false)).isEqualTo(bookingFullDto1);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -61,4 +61,9 @@ class CommentRepositoryTest {
     void findAllByOwnerId_returnEmpty_added1Comment() {
         assertEquals(List.of(), commentRepository.findAllByItemId(999L));
     }
+
+    @Test
+    void findAllByItemIdIn_return1Comment_added1Comment() {
+        assertEquals(List.of(commentFromDb), commentRepository.findAllByItemIdIn(List.of(itemFromDb.getId(), 999L)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserInputDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsConfigIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private UserService userService;
+
+    @SneakyThrows
+    @Test
+    void sqlStatements_recordPerEndpoint_createdUser() {
+        long countBefore = summaryCount("POST", "/users");
+        double totalBefore = summaryTotal("POST", "/users");
+
+        mockMvc.perform(post("/users")
+                        .content("{\"name\":\"metrics\",\"email\":\"metrics" + System.nanoTime() + "@mail.ru\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertThat(summaryCount("POST", "/users")).isEqualTo(countBefore + 1);
+        assertThat(summaryTotal("POST", "/users") - totalBefore).isGreaterThanOrEqualTo(1);
+    }
+
+    @SneakyThrows
+    @Test
+    void sqlStatements_recordZero_requestWithoutQueries() {
+        long countBefore = summaryCount("GET", "/bookings/owner");
+        double totalBefore = summaryTotal("GET", "/bookings/owner");
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "UNKNOWN")
+                        .param("from", "0")
+                        .param("size", "10"))
+                .andExpect(status().isInternalServerError());
+
+        assertThat(summaryCount("GET", "/bookings/owner")).isEqualTo(countBefore + 1);
+        assertThat(summaryTotal("GET", "/bookings/owner")).isEqualTo(totalBefore);
+    }
+
+    @Test
+    void serviceTimer_recordServiceMethod_createdUser() {
+        long countBefore = timerCount("ru.practicum.shareit.user.UserServiceImpl", "create");
+
+        userService.create(new UserInputDto(null, "timed", "timed" + System.nanoTime() + "@mail.ru"));
+
+        assertThat(timerCount("ru.practicum.shareit.user.UserServiceImpl", "create")).isEqualTo(countBefore + 1);
+    }
+
+    private long summaryCount(String method, String uri) {
+        DistributionSummary summary = findSummary(method, uri);
+        return summary == null ? 0 : summary.count();
+    }
+
+    private double summaryTotal(String method, String uri) {
+        DistributionSummary summary = findSummary(method, uri);
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    private DistributionSummary findSummary(String method, String uri) {
+        return meterRegistry.find(SqlStatementCountInterceptor.SQL_STATEMENTS_SUMMARY)
+                .tag("method", method)
+                .tag("uri", uri)
+                .summary();
+    }
+
+    private long timerCount(String className, String method) {
+        Timer timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tag("class", className)
+                .tag("method", method)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,129 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemFullDto;
+import ru.practicum.shareit.item.dto.ItemInputDto;
+import ru.practicum.shareit.item.dto.SlotDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserFullDto;
+import ru.practicum.shareit.user.dto.UserInputDto;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary",
+        "shareit.datasource.replica.url=jdbc:h2:mem:replica",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=5000",
+        "shareit.datasource.replica.hikari.maximum-pool-size=2"
+})
+class ReadOnlyRoutingDataSourceIT {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransaction_useReplica() {
+        transactionTemplate.setReadOnly(true);
+
+        String database = transactionTemplate.execute(status -> currentDatabase());
+
+        assertThat(database).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void readWriteTransaction_usePrimary() {
+        String database = transactionTemplate.execute(status -> currentDatabase());
+
+        assertThat(database).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void readWriteAfterReadOnlyTransaction_usePrimary() {
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+
+        String readOnlyDatabase = readOnlyTemplate.execute(status -> currentDatabase());
+        String readWriteDatabase = transactionTemplate.execute(status -> currentDatabase());
+
+        assertThat(readOnlyDatabase).isEqualTo("REPLICA");
+        assertThat(readWriteDatabase).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void noTransaction_usePrimary() {
+        assertThat(currentDatabase()).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void flyway_migratePrimaryOnly() {
+        transactionTemplate.setReadOnly(true);
+
+        Integer replicaTables = transactionTemplate.execute(status -> countBookingsTables());
+
+        assertThat(countBookingsTables()).isEqualTo(1);
+        assertThat(replicaTables).isZero();
+    }
+
+    @Test
+    void getAvailability_loadBookedSlotsFromPrimary() {
+        UserFullDto owner = userService.create(new UserInputDto(null, "owner", "owner" + System.nanoTime() + "@mail.ru"));
+        ItemFullDto item = itemService.create(owner.getId(), new ItemInputDto(null, "drill", "drill", true, null));
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        List<SlotDto> slots = itemService.getAvailability(item.getId(), from, from.plusDays(1));
+
+        assertThat(slots).containsExactly(new SlotDto(from, from.plusDays(1)));
+    }
+
+    @Test
+    void hikariProperties_applyToBothPools() {
+        assertThat(primaryDataSource.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(primaryDataSource.getConnectionTimeout()).isEqualTo(5000);
+        assertThat(replicaDataSource.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(replicaDataSource.getConnectionTimeout()).isEqualTo(5000);
+    }
+
+    private Integer countBookingsTables() {
+        return jdbcTemplate.queryForObject("select count(*) from information_schema.tables " +
+                "where table_name = 'BOOKINGS'", Integer.class);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestComponent
+@RequiredArgsConstructor
+public class SqlStatementBudget {
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> T assertAtMost(long maxStatements, Callable<T> call) throws Exception {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long startCount = sqlStatementCounter.getCount();
+        T result = call.call();
+        assertThat(sqlStatementCounter.getCount() - startCount)
+                .as("SQL statements executed")
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
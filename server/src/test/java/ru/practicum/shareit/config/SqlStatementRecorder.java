@@ -0,0 +1,33 @@
+package ru.practicum.shareit.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@TestComponent
+public class SqlStatementRecorder implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.get().add(sql);
+        return sql;
+    }
+
+    public List<String> record(Runnable call) {
+        statements.get().clear();
+        call.run();
+        return List.copyOf(statements.get());
+    }
+}
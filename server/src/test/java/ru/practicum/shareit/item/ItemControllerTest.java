@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.comment.dto.CommentDto;
@@ -14,6 +16,7 @@ import ru.practicum.shareit.comment.dto.CommentInputDto;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.SlotDto;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.dto.UserShortDto;
@@ -22,9 +25,11 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -146,7 +151,7 @@ public class ItemControllerTest {
     @Test
     void getByUserId_return2ItemByUser1_added2Item() {
         when(itemServiceMock.getByUserId(1L, 1, 20))
-                .thenReturn(List.of(itemFullDto1, itemFullDto2));
+                .thenReturn(new SliceImpl<>(List.of(itemFullDto1, itemFullDto2), PageRequest.of(0, 2), true));
 
         mockMvc.perform(get("/items", 1L)
                         .header("X-Sharer-User-Id", 1L)
@@ -154,6 +159,7 @@ public class ItemControllerTest {
                         .param("size", "20")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(ItemController.HAS_NEXT_HEADER, "true"))
                 .andExpect(jsonPath("$[0].id").value(itemFullDto1.getId()))
                 .andExpect(jsonPath("$[0].name").value(itemFullDto1.getName()))
                 .andExpect(jsonPath("$[0].description").value(itemFullDto1.getDescription()))
@@ -174,7 +180,8 @@ public class ItemControllerTest {
     @SneakyThrows
     @Test
     void search_returnItem_addItem() {
-        when(itemServiceMock.search("fdsadsa", 1, 20)).thenReturn(List.of(itemFullDto1));
+        when(itemServiceMock.search("fdsadsa", 1, 20))
+                .thenReturn(new SliceImpl<>(List.of(itemFullDto1), PageRequest.of(0, 20), true));
 
         mockMvc.perform(get("/items/search")
                         .param("text", "fdsadsa")
@@ -182,6 +189,7 @@ public class ItemControllerTest {
                         .param("size", "20")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(ItemController.HAS_NEXT_HEADER, "true"))
                 .andExpect(jsonPath("$[0].id").value(itemFullDto1.getId()))
                 .andExpect(jsonPath("$[0].name").value(itemFullDto1.getName()))
                 .andExpect(jsonPath("$[0].description").value(itemFullDto1.getDescription()))
@@ -192,6 +200,28 @@ public class ItemControllerTest {
         verify(itemServiceMock).search("fdsadsa", 1, 20);
     }
 
+    @SneakyThrows
+    @Test
+    void search_returnAvailableItem_withPeriod() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0, 15);
+        LocalDateTime end = start.plusDays(2);
+        when(itemServiceMock.searchAvailable("fdsadsa", start, end, 1, 20))
+                .thenReturn(new SliceImpl<>(List.of(itemFullDto1)));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", "fdsadsa")
+                        .param("from", "1")
+                        .param("size", "20")
+                        .param("start", start.toString())
+                        .param("end", end.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ItemController.HAS_NEXT_HEADER, "false"))
+                .andExpect(jsonPath("$[0].id").value(itemFullDto1.getId()));
+        verify(itemServiceMock).searchAvailable("fdsadsa", start, end, 1, 20);
+        verify(itemServiceMock, never()).search("fdsadsa", 1, 20);
+    }
+
     @SneakyThrows
     @Test
     void addComment_returnComment_addComment() {
@@ -209,4 +239,22 @@ public class ItemControllerTest {
                         .truncatedTo(ChronoUnit.SECONDS).toString()));
         verify(itemServiceMock).addComment(1L, 1L, commentInputDto);
     }
+
+    @SneakyThrows
+    @Test
+    void getAvailability_returnFreeSlots_rightPeriod() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0, 15);
+        LocalDateTime to = from.plusDays(2);
+        when(itemServiceMock.getAvailability(1L, from, to)).thenReturn(List.of(new SlotDto(from, to)));
+
+        mockMvc.perform(get("/items/{itemId}/availability", 1L)
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].start").value(from.toString()))
+                .andExpect(jsonPath("$[0].end").value(to.toString()));
+        verify(itemServiceMock).getAvailability(1L, from, to);
+    }
 }
@@ -9,6 +9,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.Status;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
@@ -30,6 +33,8 @@ class ItemRepositoryTest {
     private UserRepository userRepository;
     @Autowired
     private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
 
     private User userFromDb;
     private Item itemFromDb;
@@ -62,22 +67,61 @@ class ItemRepositoryTest {
 
     @Test
     void findAllByOwnerId_return1Item_added1Items() {
-        assertEquals(List.of(itemFromDb), itemRepository.findAllByOwnerId(userFromDb.getId(), pageable));
+        assertEquals(List.of(itemFromDb), itemRepository.findAllByOwnerId(userFromDb.getId(), pageable).getContent());
     }
 
     @Test
     void findAllByOwnerId_returnEmpty_added1Items() {
-        assertEquals(List.of(), itemRepository.findAllByOwnerId(999L, pageable));
+        assertEquals(List.of(), itemRepository.findAllByOwnerId(999L, pageable).getContent());
+    }
+
+    @Test
+    void findByIdForUpdate_returnItem_added1Items() {
+        assertEquals(itemFromDb, itemRepository.findByIdForUpdate(itemFromDb.getId()).orElseThrow());
     }
 
     @Test
     void search_return1Item_added1Items() {
-        assertEquals(List.of(itemFromDb), itemRepository.search("кир", pageable));
+        assertEquals(List.of(itemFromDb), itemRepository.search("кир", pageable).getContent());
     }
 
     @Test
     void search_returnEmpty_added1Items() {
-        assertEquals(List.of(), itemRepository.search("выфавыф", pageable));
+        assertEquals(List.of(), itemRepository.search("выфавыф", pageable).getContent());
+    }
+
+    @Test
+    void search_matchEscapedPercentLiterally_added1Items() {
+        itemFromDb.setName("Кирпич 50%");
+        itemRepository.save(itemFromDb);
+
+        assertEquals(List.of(itemFromDb), itemRepository.search("0\\%", pageable).getContent());
+        assertEquals(List.of(), itemRepository.search("и\\%", pageable).getContent());
+    }
+
+    @Test
+    void search_returnEmpty_unavailableItemMatchedByName() {
+        itemFromDb.setAvailable(false);
+        itemRepository.save(itemFromDb);
+
+        assertEquals(List.of(), itemRepository.search("кир", pageable).getContent());
+    }
+
+    @Test
+    void searchAvailable_return1Item_noApprovedBookingInPeriod() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        addBooking(start.minusDays(1), start, Status.APPROVED);
+        addBooking(start, start.plusDays(1), Status.REJECTED);
+
+        assertEquals(List.of(itemFromDb), itemRepository.searchAvailable("кир", start, start.plusDays(1), pageable).getContent());
+    }
+
+    @Test
+    void searchAvailable_returnEmpty_approvedBookingInPeriod() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        addBooking(start.plusHours(12), start.plusDays(2), Status.APPROVED);
+
+        assertEquals(List.of(), itemRepository.searchAvailable("кир", start, start.plusDays(1), pageable).getContent());
     }
 
     @Test
@@ -89,4 +133,20 @@ class ItemRepositoryTest {
     void getItemsByRequest_returnEmpty_added1Items() {
         assertEquals(List.of(), itemRepository.findAllByItemRequestId(999L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemsByRequestIds_return1Item_added1Items() {
+        assertEquals(List.of(itemFromDb),
+                itemRepository.findAllByItemRequestIdIn(List.of(itemRequestFromDb.getId(), 999L)));
+    }
+
+    private void addBooking(LocalDateTime start, LocalDateTime end, Status status) {
+        Booking booking = new Booking();
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setItem(itemFromDb);
+        booking.setBooker(userFromDb);
+        booking.setStatus(status);
+        bookingRepository.save(booking);
+    }
+}
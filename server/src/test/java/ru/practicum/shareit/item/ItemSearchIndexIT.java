@@ -0,0 +1,63 @@
+package ru.practicum.shareit.item;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.config.SqlStatementBudget;
+import ru.practicum.shareit.item.dto.ItemFullDto;
+import ru.practicum.shareit.item.dto.ItemInputDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserFullDto;
+import ru.practicum.shareit.user.dto.UserInputDto;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.search.index.enabled=true")
+@Import(SqlStatementBudget.class)
+class ItemSearchIndexIT {
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private SqlStatementBudget sqlStatementBudget;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @SneakyThrows
+    @Test
+    void search_executeConstantStatements_7ItemsOf7Owners() {
+        String text = "indexed" + System.nanoTime();
+        for (int i = 0; i < 7; i++) {
+            UserFullDto owner = userService.create(new UserInputDto(null, "owner" + i, text + i + "@mail.ru"));
+            itemService.create(owner.getId(), new ItemInputDto(null, text + i, "description", true, null));
+        }
+
+        List<ItemFullDto> result = sqlStatementBudget.assertAtMost(2, () -> itemService.search(text, 0, 20))
+                .getContent();
+
+        assertThat(result).hasSize(7);
+        assertThat(result).extracting(item -> item.getOwner().getName())
+                .containsExactly("owner0", "owner1", "owner2", "owner3", "owner4", "owner5", "owner6");
+    }
+
+    @Test
+    void search_returnEmpty_rolledBackItem() {
+        String text = "rolledback" + System.nanoTime();
+        UserFullDto owner = userService.create(new UserInputDto(null, "owner", text + "@mail.ru"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.create(owner.getId(), new ItemInputDto(null, text, "description", true, null));
+            assertThat(itemService.search(text, 0, 20).getContent()).isEmpty();
+            status.setRollbackOnly();
+        });
+
+        assertThat(itemService.search(text, 0, 20).getContent()).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.user.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemSearchIndex itemSearchIndex;
+    private Item item1;
+    private Item item2;
+    private Item item3;
+
+    @BeforeEach
+    void beforeEach() {
+        User user = new User(1L, "sadsa", "dsads@dsads.ru");
+        item1 = new Item(1L, "asdfgh", "asdfghdfgh", true, user, null);
+        item2 = new Item(2L, "asdfghjk", "zxcvbnmjk", true, user, null);
+        item3 = new Item(3L, "Кирпич", "Шлакоблокунь", false, user, null);
+        itemSearchIndex = new ItemSearchIndex(itemRepository, true);
+        itemSearchIndex.add(item1);
+        itemSearchIndex.add(item2);
+        itemSearchIndex.add(item3);
+    }
+
+    @Test
+    void search_returnMatchedIdsInOrder_added3Items() {
+        assertThat(itemSearchIndex.search("ASDFGH")).containsExactly(1L, 2L);
+        assertThat(itemSearchIndex.search("bnmjk")).containsExactly(2L);
+        assertThat(itemSearchIndex.search("assdadsadsad")).isEmpty();
+    }
+
+    @Test
+    void search_skipUnavailableByDescription_added3Items() {
+        assertThat(itemSearchIndex.search("блок")).isEmpty();
+    }
+
+    @Test
+    void search_skipUnavailableByName_added3Items() {
+        assertThat(itemSearchIndex.search("кир")).isEmpty();
+    }
+
+    @Test
+    void add_indexItem_becameAvailable() {
+        item3.setAvailable(true);
+        itemSearchIndex.add(item3);
+
+        assertThat(itemSearchIndex.search("кир")).containsExactly(3L);
+
+        item3.setAvailable(false);
+        itemSearchIndex.add(item3);
+
+        assertThat(itemSearchIndex.search("кир")).isEmpty();
+    }
+
+    @Test
+    void add_replaceOldTokens_updatedItem() {
+        item2.setName("qwerty");
+        item2.setDescription("qwerty");
+        itemSearchIndex.add(item2);
+
+        assertThat(itemSearchIndex.search("asdfgh")).containsExactly(1L);
+        assertThat(itemSearchIndex.search("werty")).containsExactly(2L);
+    }
+
+    @Test
+    void add_indexAfterCommit_activeTransaction() {
+        item2.setName("qwerty");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemSearchIndex.add(item2);
+
+            assertThat(itemSearchIndex.search("werty")).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(itemSearchIndex.search("werty")).containsExactly(2L);
+    }
+
+    @Test
+    void canSearch_returnFalse_shortTextOrDisabled() {
+        assertThat(itemSearchIndex.canSearch("as")).isFalse();
+        assertThat(itemSearchIndex.canSearch("asd")).isTrue();
+        assertThat(new ItemSearchIndex(itemRepository, false).canSearch("asd")).isFalse();
+    }
+
+    @Test
+    void warmUp_indexAllItems_repositoryWith1Item() {
+        ItemSearchIndex index = new ItemSearchIndex(itemRepository, true);
+        when(itemRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(item1)));
+
+        index.warmUp();
+
+        assertThat(index.search("dfgh")).containsExactly(1L);
+    }
+
+    @Test
+    void warmUp_doNothing_disabled() {
+        new ItemSearchIndex(itemRepository, false).warmUp();
+
+        verifyNoInteractions(itemRepository);
+    }
+}
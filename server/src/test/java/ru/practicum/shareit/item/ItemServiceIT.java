@@ -1,17 +1,21 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.SqlStatementBudget;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserFullDto;
 import ru.practicum.shareit.user.dto.UserInputDto;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @Transactional
 @SpringBootTest
+@Import(SqlStatementBudget.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemServiceIT {
 
@@ -27,6 +32,8 @@ class ItemServiceIT {
     private ItemService itemService;
     @Autowired
     private UserService userService;
+    @Autowired
+    private SqlStatementBudget sqlStatementBudget;
 
     private UserFullDto userFullDto1;
     private UserFullDto userFullDto2;
@@ -63,10 +70,10 @@ class ItemServiceIT {
 
     @Test
     void search_return4Results_added2Items() {
-        List<ItemFullDto> result1 = itemService.search("asdfgh", 1, 20);
-        List<ItemFullDto> result2 = itemService.search("jk", 1, 20);
-        List<ItemFullDto> result3 = itemService.search("asdfghdfgh", 1, 20);
-        List<ItemFullDto> result4 = itemService.search("assdadsadsadsadsadfghdfgh", 1, 20);
+        List<ItemFullDto> result1 = itemService.search("asdfgh", 1, 20).getContent();
+        List<ItemFullDto> result2 = itemService.search("jk", 1, 20).getContent();
+        List<ItemFullDto> result3 = itemService.search("asdfghdfgh", 1, 20).getContent();
+        List<ItemFullDto> result4 = itemService.search("assdadsadsadsadsadfghdfgh", 1, 20).getContent();
 
         assertThat(result1).asList().containsExactly(itemFullDto1, itemFullDto2);
         assertThat(result2).asList().containsExactly(itemFullDto2);
@@ -74,10 +81,24 @@ class ItemServiceIT {
         assertThat(result4.size()).isEqualTo(0);
     }
 
+    @Test
+    void search_matchWildcardsLiterally_addedPercentItem() {
+        ItemFullDto percentItem = itemService.create(userFullDto1.getId(),
+                new ItemInputDto(null, "50% drill", "drill", true, null));
+        itemService.create(userFullDto1.getId(), new ItemInputDto(null, "500 drill", "drill", true, null));
+        percentItem.setComments(new ArrayList<>());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        assertThat(itemService.search("0%", 0, 20).getContent()).asList().containsExactly(percentItem);
+        assertThat(itemService.searchAvailable("0%", start, start.plusDays(1), 0, 20).getContent())
+                .asList().containsExactly(percentItem);
+        assertThat(itemService.search("0_", 0, 20).getContent()).isEmpty();
+    }
+
     @Test
     void getByUserId_return1ItemEveryTime_added2Items() {
-        assertThat(itemService.getByUserId(userFullDto1.getId(), 0, 20).get(0)).isEqualTo(itemFullDto1);
-        assertThat(itemService.getByUserId(userFullDto2.getId(), 0, 20).get(0)).isEqualTo(itemFullDto2);
+        assertThat(itemService.getByUserId(userFullDto1.getId(), 0, 20).getContent().get(0)).isEqualTo(itemFullDto1);
+        assertThat(itemService.getByUserId(userFullDto2.getId(), 0, 20).getContent().get(0)).isEqualTo(itemFullDto2);
     }
 
     @Test
@@ -85,4 +106,26 @@ class ItemServiceIT {
         assertThat(itemService.getById(userFullDto1.getId(), itemFullDto1.getId())).isEqualTo(itemFullDto1);
         assertThat(itemService.getById(userFullDto2.getId(), itemFullDto2.getId())).isEqualTo(itemFullDto2);
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    @Test
+    void getByUserId_executeConstantStatements_added6Items() {
+        for (int i = 0; i < 5; i++) {
+            itemService.create(userFullDto1.getId(), new ItemInputDto(null, "asdfgh" + i, "asdfghdfgh", true, null));
+        }
+
+        assertThat(sqlStatementBudget.assertAtMost(5, () -> itemService.getByUserId(userFullDto1.getId(), 0, 20))
+                .getContent()).hasSize(6);
+    }
+
+    @SneakyThrows
+    @Test
+    void search_executeConstantStatements_added7Items() {
+        for (int i = 0; i < 5; i++) {
+            itemService.create(userFullDto2.getId(), new ItemInputDto(null, "asdfgh" + i, "asdfghdfgh", true, null));
+        }
+
+        assertThat(sqlStatementBudget.assertAtMost(2, () -> itemService.search("asdfgh", 0, 20))
+                .getContent()).hasSize(7);
+    }
+}
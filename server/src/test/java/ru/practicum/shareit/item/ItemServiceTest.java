@@ -3,12 +3,14 @@ package ru.practicum.shareit.item;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.BookingCalendar;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.comment.Comment;
 import ru.practicum.shareit.comment.CommentRepository;
@@ -17,12 +19,17 @@ import ru.practicum.shareit.comment.dto.CommentInputDto;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.SlotDto;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestServiceImpl;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserServiceImpl;
+import ru.practicum.shareit.user.dto.UserMapper;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
@@ -45,9 +52,13 @@ class ItemServiceTest {
     private BookingRepository bookingRepository;
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private BookingCalendar bookingCalendar;
 
-    @InjectMocks
     private ItemServiceImpl itemService;
+    private Clock clock;
 
 
     private User user1;
@@ -61,6 +72,9 @@ class ItemServiceTest {
 
     @BeforeEach
     void beforeEach() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        itemService = new ItemServiceImpl(itemRepository, bookingRepository, commentRepository, itemSearchIndex,
+                bookingCalendar, clock, userService, itemRequestService);
         user1 = new User(1L, "sadsa", "dsads@dsads.ru");
         User user2 = new User(2L, "sadsadsa", "dsasdadsds@ddsadssads.ru");
         itemRequest1 = new ItemRequest(1L, "dswads", user2,
@@ -81,14 +95,36 @@ class ItemServiceTest {
 
     @Test
     void search_return1Item_withText() {
-        when(itemRepository.search("sdad", pageable)).thenReturn(List.of(item1));
+        when(itemRepository.search("sdad", pageable)).thenReturn(new SliceImpl<>(List.of(item1)));
+
+        assertThat(itemService.search("sdad", 1, 20).getContent()).asList().contains(itemFullDto1);
+    }
+
+    @Test
+    void search_return1Item_withIndex() {
+        when(itemSearchIndex.canSearch("sdad")).thenReturn(true);
+        when(itemSearchIndex.search("sdad")).thenReturn(new long[]{item1.getId()});
+        when(itemRepository.findAllByIdIn(List.of(item1.getId()))).thenReturn(List.of(item1));
+
+        assertThat(itemService.search("sdad", 1, 20).getContent()).asList().containsExactly(itemFullDto1);
+        verify(itemRepository, never()).search("sdad", pageable);
+    }
+
+    @Test
+    void search_returnHasNext_moreIndexMatchesThanSize() {
+        when(itemSearchIndex.canSearch("sdad")).thenReturn(true);
+        when(itemSearchIndex.search("sdad")).thenReturn(new long[]{item1.getId(), item1.getId() + 1});
+        when(itemRepository.findAllByIdIn(List.of(item1.getId()))).thenReturn(List.of(item1));
+
+        Slice<ItemFullDto> result = itemService.search("sdad", 0, 1);
 
-        assertThat(itemService.search("sdad", 1, 20)).asList().contains(itemFullDto1);
+        assertThat(result.getContent()).asList().containsExactly(itemFullDto1);
+        assertThat(result.hasNext()).isTrue();
     }
 
     @Test
     void search_returnEmpty_wrongText() {
-        assertThat(itemService.search("", 1, 20).size()).isEqualTo(0);
+        assertThat(itemService.search("", 1, 20).getContent().size()).isEqualTo(0);
         verify(itemRepository, times(0)).search("", pageable);
     }
 
@@ -97,16 +133,37 @@ class ItemServiceTest {
         assertThrows(IllegalArgumentException.class, () -> itemService.search("asdad", 0, 0));
     }
 
+    @Test
+    void searchAvailable_return1Item_withPeriod() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        LocalDateTime end = start.plusDays(1);
+        when(itemRepository.searchAvailable("sdad", start, end, pageable)).thenReturn(new SliceImpl<>(List.of(item1)));
+
+        assertThat(itemService.searchAvailable("sdad", start, end, 1, 20).getContent()).asList().containsExactly(itemFullDto1);
+        verify(itemSearchIndex, never()).canSearch("sdad");
+    }
+
+    @Test
+    void searchAvailable_throwIllegalArgumentException_wrongPeriod() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.searchAvailable("sdad", start, start.minusHours(1), 1, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.searchAvailable("sdad", start, null, 1, 20));
+    }
+
     @Test
     void getByUserId_return1Item_add2Item() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
-        when(itemRepository.findAllByOwnerId(1L, pageable)).thenReturn(List.of(item1));
+        when(itemRepository.findAllByOwnerId(1L, pageable)).thenReturn(new SliceImpl<>(List.of(item1)));
 
-        assertThat(itemService.getByUserId(1L, 1, 20)).asList().contains(itemFullDto1);
+        assertThat(itemService.getByUserId(1L, 1, 20).getContent()).asList().contains(itemFullDto1);
     }
 
     @Test
     void getByUserId_throwNullPointerException_add2Items() {
+        doThrow(NullPointerException.class).when(userService).checkUserExists(999L);
+
         assertThrows(NullPointerException.class, () -> itemService.getByUserId(999L, 1, 20));
     }
 
@@ -124,16 +181,17 @@ class ItemServiceTest {
 
     @Test
     void create_returnItem_addItem() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
+        when(userService.getUserById(user1.getId())).thenReturn(UserMapper.mapToSnapshot(user1));
+        when(userService.getReference(user1.getId())).thenReturn(user1);
         when(itemRequestService.getRequestById(itemInputDto1.getRequestId())).thenReturn(itemRequest1);
         when(itemRepository.save(item1)).thenReturn(item1);
 
         assertThat(itemService.create(1L, itemInputDto1)).isEqualTo(itemFullDto1);
+        verify(itemSearchIndex).add(item1);
     }
 
     @Test
     void update_returnItem_updateItem() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
         when(itemRepository.findById(item1.getId())).thenReturn(Optional.ofNullable(item1));
         when(itemRepository.save(item1)).thenReturn(item1);
 
@@ -154,10 +212,11 @@ class ItemServiceTest {
 
     @Test
     void addComment() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
+        when(userService.getUserById(user1.getId())).thenReturn(UserMapper.mapToSnapshot(user1));
+        when(userService.getReference(user1.getId())).thenReturn(user1);
         when(itemRepository.findById(item1.getId())).thenReturn(Optional.ofNullable(item1));
         when(bookingRepository.existsByBookerIdAndItemIdAndEndBefore(1L, 1L,
-                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)))
+                LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS)))
                 .thenReturn(true);
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
@@ -168,4 +227,42 @@ class ItemServiceTest {
         assertThat(commentDto.getCreated().truncatedTo(ChronoUnit.SECONDS))
                 .isEqualTo(comment.getCreated().truncatedTo(ChronoUnit.SECONDS));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAvailability_return2FreeSlots_1BookedSlot() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime to = from.plusDays(4);
+        SlotDto booked = new SlotDto(from.plusDays(1), from.plusDays(2));
+        when(itemRepository.existsById(item1.getId())).thenReturn(true);
+        when(bookingCalendar.getBookedSlots(item1.getId())).thenReturn(List.of(booked));
+
+        assertThat(itemService.getAvailability(item1.getId(), from, to)).asList()
+                .containsExactly(new SlotDto(from, booked.getStart()), new SlotDto(booked.getEnd(), to));
+    }
+
+    @Test
+    void getAvailability_returnEmpty_bookedWholePeriod() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime to = from.plusDays(4);
+        when(itemRepository.existsById(item1.getId())).thenReturn(true);
+        when(bookingCalendar.getBookedSlots(item1.getId())).thenReturn(List.of(
+                new SlotDto(from.minusDays(1), from.plusDays(2)),
+                new SlotDto(from.plusDays(2), to.plusDays(1))));
+
+        assertThat(itemService.getAvailability(item1.getId(), from, to)).asList().isEmpty();
+    }
+
+    @Test
+    void getAvailability_throwIllegalArgumentException_wrongPeriod() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        assertThrows(IllegalArgumentException.class, () -> itemService.getAvailability(item1.getId(), from, from));
+    }
+
+    @Test
+    void getAvailability_throwNullPointerException_unknownItem() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        assertThrows(NullPointerException.class, () -> itemService.getAvailability(999L, from, from.plusDays(1)));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
@@ -21,6 +22,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -85,7 +87,7 @@ public class ItemRequestControllerTest {
     @Test
     void getAll_return2ItemRequest_add2ItemRequest() {
         when(itemRequestServiceMock.getAll(1L, 1, 20))
-                .thenReturn(List.of(itemRequestDto1, itemRequestDto2));
+                .thenReturn(new SliceImpl<>(List.of(itemRequestDto1, itemRequestDto2)));
 
         mockMvc.perform(get("/requests/all")
                         .header("X-Sharer-User-Id", 1L)
@@ -93,6 +95,7 @@ public class ItemRequestControllerTest {
                         .param("size", "20")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(ItemRequestController.HAS_NEXT_HEADER, "false"))
                 .andExpect(jsonPath("$[0].id").value(itemRequestDto1.getId()))
                 .andExpect(jsonPath("$[0].description").value(itemRequestDto1.getDescription()))
                 .andExpect(jsonPath("$[0].created").value(itemRequestDto1.getCreated()
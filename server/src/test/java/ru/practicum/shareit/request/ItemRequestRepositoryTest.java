@@ -61,12 +61,12 @@ class ItemRequestRepositoryTest {
     @Test
     void findAllByRequesterIdNot_return1ItemRequest_added1Request() {
         assertEquals(List.of(itemRequestFromDb),
-                itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(9999L, pageable));
+                itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(9999L, pageable).getContent());
     }
 
     @Test
     void findAllByRequesterIdNot_returnEmpty_added1Request() {
         assertEquals(List.of(),
-                itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userFromDb.getId(), pageable));
+                itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userFromDb.getId(), pageable).getContent());
     }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.SqlStatementBudget;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemFullDto;
 import ru.practicum.shareit.item.dto.ItemInputDto;
@@ -20,9 +25,14 @@ import ru.practicum.shareit.user.dto.UserInputDto;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
 @SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementBudget.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemRequestServiceIT {
 
@@ -32,6 +42,10 @@ class ItemRequestServiceIT {
     private UserService userService;
     @Autowired
     private ItemRequestService itemRequestService;
+    @Autowired
+    private SqlStatementBudget sqlStatementBudget;
+    @Autowired
+    private MockMvc mockMvc;
 
     private UserFullDto userFullDto1;
     private UserFullDto userFullDto2;
@@ -100,11 +114,11 @@ class ItemRequestServiceIT {
 
     @Test
     void getAll_return1ItemRequestEveryTime_added2ItemRequests() {
-        List<ItemRequestDto> result1 = itemRequestService.getAll(userFullDto1.getId(), 1, 20);
+        List<ItemRequestDto> result1 = itemRequestService.getAll(userFullDto1.getId(), 1, 20).getContent();
         assertThat(result1.size()).isEqualTo(1);
         assertThat(result1.get(0)).isEqualTo(itemRequestDto2);
 
-        List<ItemRequestDto> result2 = itemRequestService.getAll(userFullDto2.getId(), 1, 20);
+        List<ItemRequestDto> result2 = itemRequestService.getAll(userFullDto2.getId(), 1, 20).getContent();
         assertThat(result2.size()).isEqualTo(1);
         assertThat(result2.get(0)).isEqualTo(itemRequestDto1);
     }
@@ -117,4 +131,42 @@ class ItemRequestServiceIT {
         assertThat(itemRequestService.getById(userFullDto1.getId(), itemRequestDto2.getId()))
                 .isEqualTo(itemRequestDto2);
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    @Test
+    void getAll_executeConstantStatements_added5ItemRequests() {
+        for (int i = 0; i < 3; i++) {
+            ItemRequestDto itemRequestDto = itemRequestService.create(userFullDto2.getId(),
+                    new ItemRequestInputDto("sadsadsa" + i));
+            itemService.create(userFullDto1.getId(),
+                    new ItemInputDto(null, "asdfgh" + i, "asdfghdfgh", true, itemRequestDto.getId()));
+        }
+
+        List<ItemRequestDto> result = sqlStatementBudget.assertAtMost(3,
+                () -> itemRequestService.getAll(userFullDto1.getId(), 0, 20).getContent());
+
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.get(0).getItems().size()).isEqualTo(1);
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllEndpoint_executeConstantStatements_added5ItemRequests() {
+        for (int i = 0; i < 5; i++) {
+            ItemRequestDto itemRequestDto = itemRequestService.create(userFullDto2.getId(),
+                    new ItemRequestInputDto("budget request " + i));
+            itemService.create(userFullDto1.getId(),
+                    new ItemInputDto(null, "budget item " + i, "description", true, itemRequestDto.getId()));
+        }
+
+        sqlStatementBudget.assertAtMost(3, () -> mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", userFullDto1.getId())
+                        .param("from", "0")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].description").value("budget request 4"))
+                .andExpect(jsonPath("$[0].items[0].name").value("budget item 4"))
+                .andExpect(jsonPath("$[4].items[0].name").value("budget item 0")));
+    }
+}
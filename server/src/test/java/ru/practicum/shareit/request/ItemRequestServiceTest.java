@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
@@ -17,6 +18,7 @@ import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserServiceImpl;
+import ru.practicum.shareit.user.dto.UserMapper;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -63,27 +65,27 @@ class ItemRequestServiceTest {
 
     @Test
     void getByRequesterId_return1ItemRequest_added1ItemRequest() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
         when(itemRequestRepository
                 .findAllByRequesterIdOrderByCreatedDesc(user1.getId())).thenReturn(List.of(itemRequest1));
-        when(itemRepository.findAllByItemRequestId(itemRequestDto1.getId())).thenReturn(List.of(item1));
+        when(itemRepository.findAllByItemRequestIdIn(List.of(itemRequestDto1.getId()))).thenReturn(List.of(item1));
 
         assertThat(itemRequestService.getByRequesterId(user1.getId())).asList().contains(itemRequestDto1);
     }
 
     @Test
     void getAll_return1ItemRequest_added1ItemRequest() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
         when(itemRequestRepository
-                .findAllByRequesterIdNotOrderByCreatedDesc(user1.getId(), pageable)).thenReturn(List.of(itemRequest1));
-        when(itemRepository.findAllByItemRequestId(itemRequestDto1.getId())).thenReturn(List.of(item1));
+                .findAllByRequesterIdNotOrderByCreatedDesc(user1.getId(), pageable))
+                .thenReturn(new SliceImpl<>(List.of(itemRequest1)));
+        when(itemRepository.findAllByItemRequestIdIn(List.of(itemRequestDto1.getId()))).thenReturn(List.of(item1));
 
-        assertThat(itemRequestService.getAll(user1.getId(), 1, 20)).asList().contains(itemRequestDto1);
+        assertThat(itemRequestService.getAll(user1.getId(), 1, 20).getContent()).asList().contains(itemRequestDto1);
     }
 
     @Test
     void create_return1ItemRequest_added1ItemRequest() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
+        when(userService.getUserById(user1.getId())).thenReturn(UserMapper.mapToSnapshot(user1));
+        when(userService.getReference(user1.getId())).thenReturn(user1);
         when(itemRequestRepository.save(any())).thenReturn(itemRequest1);
         itemRequestDto1.setItems(null);
 
@@ -92,7 +94,6 @@ class ItemRequestServiceTest {
 
     @Test
     void getById_return1ItemRequest_added1ItemRequest() {
-        when(userService.getUserById(user1.getId())).thenReturn(user1);
         when(itemRequestRepository.findById(itemRequest1.getId())).thenReturn(Optional.of(itemRequest1));
         when(itemRepository.findAllByItemRequestId(itemRequestDto1.getId())).thenReturn(List.of(item1));
 
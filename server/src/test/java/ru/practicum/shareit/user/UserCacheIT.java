@@ -0,0 +1,125 @@
+package ru.practicum.shareit.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.user.dto.UserFullDto;
+import ru.practicum.shareit.user.dto.UserInputDto;
+import ru.practicum.shareit.user.dto.UserSnapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class UserCacheIT {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @SpyBean
+    private UserRepository userRepository;
+
+    private UserFullDto userFullDto;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheManager.getCache(UserServiceImpl.USERS_CACHE).clear();
+        cacheManager.getCache(UserServiceImpl.USER_IDS_CACHE).clear();
+        userFullDto = userService.create(new UserInputDto(null, "cached", "cached" + System.nanoTime() + "@mail.ru"));
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (userRepository.existsById(userFullDto.getId())) {
+            userRepository.deleteById(userFullDto.getId());
+        }
+    }
+
+    @Test
+    void getUserById_selectOnce_calledTwice() {
+        userService.getUserById(userFullDto.getId());
+        UserSnapshot user = userService.getUserById(userFullDto.getId());
+
+        assertThat(user.getName()).isEqualTo("cached");
+        verify(userRepository, times(1)).findById(userFullDto.getId());
+        assertThat(meterRegistry.get("cache.gets")
+                .tag("cache", UserServiceImpl.USERS_CACHE)
+                .tag("result", "hit")
+                .functionCounter()
+                .count()).isPositive();
+    }
+
+    @Test
+    void getByUserId_checkUserOnceWithoutLoad_itemsListedTwice() {
+        itemService.getByUserId(userFullDto.getId(), 0, 10);
+        itemService.getByUserId(userFullDto.getId(), 0, 10);
+
+        verify(userRepository, times(1)).existsById(userFullDto.getId());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void checkUserExists_queryOnce_calledTwice() {
+        userService.checkUserExists(userFullDto.getId());
+        userService.checkUserExists(userFullDto.getId());
+
+        verify(userRepository, times(1)).existsById(userFullDto.getId());
+    }
+
+    @Test
+    void checkUserExists_throwNullPointerException_deletedUser() {
+        userService.checkUserExists(userFullDto.getId());
+
+        userService.deleteById(userFullDto.getId());
+
+        assertThrows(NullPointerException.class, () -> userService.checkUserExists(userFullDto.getId()));
+    }
+
+    @Test
+    void update_evictAfterCommit_cachedUser() {
+        userService.getUserById(userFullDto.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.update(new UserInputDto(null, "updated", null), userFullDto.getId());
+            assertThat(cacheManager.getCache(UserServiceImpl.USERS_CACHE).get(userFullDto.getId())).isNotNull();
+        });
+
+        assertThat(cacheManager.getCache(UserServiceImpl.USERS_CACHE).get(userFullDto.getId())).isNull();
+    }
+
+    @Test
+    void getUserById_returnUpdatedUser_updatedUser() {
+        userService.getUserById(userFullDto.getId());
+
+        userService.update(new UserInputDto(null, "updated", null), userFullDto.getId());
+
+        assertThat(userService.getUserById(userFullDto.getId()).getName()).isEqualTo("updated");
+    }
+
+    @Test
+    void getUserById_throwNullPointerException_deletedUser() {
+        userService.getUserById(userFullDto.getId());
+
+        userService.deleteById(userFullDto.getId());
+
+        assertThrows(NullPointerException.class, () -> userService.getUserById(userFullDto.getId()));
+    }
+}
@@ -6,9 +6,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import ru.practicum.shareit.user.dto.UserFullDto;
 import ru.practicum.shareit.user.dto.UserInputDto;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +25,8 @@ class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -74,6 +78,7 @@ class UserServiceTest {
         when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
 
         assertThat(userService.update(userInputDto1, user1.getId())).isEqualTo(userFullDto1);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user1.getId()));
     }
 
     @Test
@@ -81,6 +86,7 @@ class UserServiceTest {
         when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
         userService.deleteById(user1.getId());
         verify(userRepository).deleteById(user1.getId());
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user1.getId()));
     }
 
     @Test
@@ -89,14 +95,30 @@ class UserServiceTest {
     }
 
     @Test
-    void getUserById_returnUser_addUser() {
+    void getUserById_returnSnapshot_addUser() {
         when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
 
-        assertThat(userService.getUserById(user1.getId())).isEqualTo(user1);
+        assertThat(userService.getUserById(user1.getId())).isEqualTo(new UserSnapshot(user1.getId(), user1.getName()));
     }
 
     @Test
     void getUserById_throwNullPointerException_emptyUser() {
         assertThrows(NullPointerException.class, () -> userService.getById(999L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkUserExists_void_existingUser() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        userService.checkUserExists(1L);
+
+        verify(userRepository).existsById(1L);
+    }
+
+    @Test
+    void checkUserExists_throwNullPointerException_unknownUser() {
+        when(userRepository.existsById(999L)).thenReturn(false);
+
+        assertThrows(NullPointerException.class, () -> userService.checkUserExists(999L));
+    }
+}